@@ -1,11 +1,14 @@
 package co.com.authservice;
 
+import co.com.authservice.config.aot.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
 @ConfigurationPropertiesScan
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class MainApplication {
     public static void main(String[] args) {
         SpringApplication.run(MainApplication.class, args);
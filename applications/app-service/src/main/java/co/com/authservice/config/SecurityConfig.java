@@ -1,5 +1,6 @@
 package co.com.authservice.config;
 
+import co.com.authservice.config.jfr.RecordingPasswordEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -10,6 +11,6 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+        return new RecordingPasswordEncoder(new BCryptPasswordEncoder(12));
     }
 }
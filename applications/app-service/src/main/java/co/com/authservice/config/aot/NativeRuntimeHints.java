@@ -0,0 +1,80 @@
+package co.com.authservice.config.aot;
+
+import co.com.authservice.api.dto.request.CreateUserDTO;
+import co.com.authservice.api.dto.request.LoginRequestDTO;
+import co.com.authservice.api.dto.response.ErrorResponseDTO;
+import co.com.authservice.api.dto.response.LoginResponseDTO;
+import co.com.authservice.api.dto.response.RoleResponseDTO;
+import co.com.authservice.api.dto.response.UserResponseDTO;
+import co.com.authservice.api.dto.response.UserSummaryDTO;
+import co.com.authservice.model.role.Role;
+import co.com.authservice.model.user.User;
+import co.com.authservice.r2dbc.entity.RoleEntity;
+import co.com.authservice.r2dbc.entity.UserEntity;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Reachability metadata the AOT engine cannot infer from the bean definitions, for the
+ * native image and the AOT-processed JVM build.
+ *
+ * <ul>
+ *     <li>reactivecommons {@code ObjectMapper}: copies between domain models and R2DBC
+ *     entities through reflection on their constructors, accessors and fields.</li>
+ *     <li>JJWT: {@code Jwts} and {@code Keys} load their implementations by class name,
+ *     and the Jackson (de)serializer is found through {@code ServiceLoader}.</li>
+ *     <li>Request/response DTOs: the functional routes bind them through Jackson and
+ *     Bean Validation, which the AOT engine only discovers for annotated controllers.</li>
+ *     <li>The protobuf schema served next to the binary representation, and the
+ *     pre-generated OpenAPI document served by the {@code prod} profile.</li>
+ * </ul>
+ *
+ * <p>MapStruct needs nothing here: {@code UserDTOMapper} uses the {@code spring} component
+ * model, so the generated implementation is an ordinary scanned bean.</p>
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> MAPPED_TYPES = List.of(User.class, Role.class, UserEntity.class, RoleEntity.class);
+
+    static final List<Class<?>> DTO_TYPES = List.of(CreateUserDTO.class, LoginRequestDTO.class,
+            UserResponseDTO.class, LoginResponseDTO.class, UserSummaryDTO.class, RoleResponseDTO.class,
+            ErrorResponseDTO.class);
+
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        MAPPED_TYPES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.DECLARED_FIELDS));
+
+        JJWT_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+        bindingRegistrar.registerReflectionHints(hints.reflection(), DTO_TYPES.toArray(Class<?>[]::new));
+
+        hints.resources().registerPattern("proto/*.proto");
+        hints.resources().registerPattern("openapi/*.json");
+    }
+}
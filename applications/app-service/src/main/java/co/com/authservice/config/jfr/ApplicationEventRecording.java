@@ -0,0 +1,65 @@
+package co.com.authservice.config.jfr;
+
+import co.com.authservice.api.security.AuthDecisionEvent;
+import co.com.authservice.jwt.TokenVerificationEvent;
+import co.com.authservice.r2dbc.jfr.RepositoryCallEvent;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Continuous, bounded JFR recording of the application events. Enabling the events
+ * here also makes them visible to recordings started externally with
+ * {@code jcmd <pid> JFR.start}, and the ring buffer can be dumped on demand with
+ * {@code jcmd <pid> JFR.dump name=authservice}.
+ */
+@Slf4j
+public class ApplicationEventRecording implements InitializingBean, DisposableBean {
+
+    static final String RECORDING_NAME = "authservice";
+
+    static final List<String> EVENTS = List.of(
+            AuthDecisionEvent.NAME,
+            TokenVerificationEvent.NAME,
+            PasswordHashEvent.NAME,
+            RepositoryCallEvent.NAME
+    );
+
+    private final JfrProperties properties;
+    private final Recording recording = new Recording();
+
+    public ApplicationEventRecording(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.maxAge());
+        recording.setMaxSize(properties.maxSize().toBytes());
+        if (properties.destination() != null) {
+            recording.setDestination(properties.destination());
+        }
+        EVENTS.forEach(name -> recording.enable(name).withThreshold(properties.threshold()));
+        recording.start();
+        log.atInfo()
+                .setMessage("JFR recording started")
+                .addKeyValue("recording", RECORDING_NAME)
+                .addKeyValue("events", EVENTS.size())
+                .log();
+    }
+
+    @Override
+    public void destroy() {
+        recording.close();
+    }
+
+    Recording recording() {
+        return recording;
+    }
+}
@@ -0,0 +1,15 @@
+package co.com.authservice.config.jfr;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "observability.jfr", name = "enabled", havingValue = "true")
+public class JfrConfig {
+
+    @Bean
+    public ApplicationEventRecording applicationEventRecording(JfrProperties properties) {
+        return new ApplicationEventRecording(properties);
+    }
+}
@@ -0,0 +1,28 @@
+package co.com.authservice.config.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "observability.jfr")
+public record JfrProperties(
+        boolean enabled,
+        Duration threshold,
+        Duration maxAge,
+        DataSize maxSize,
+        Path destination) {
+
+    public JfrProperties {
+        if (threshold == null) {
+            threshold = Duration.ZERO;
+        }
+        if (maxAge == null) {
+            maxAge = Duration.ofMinutes(30);
+        }
+        if (maxSize == null) {
+            maxSize = DataSize.ofMegabytes(64);
+        }
+    }
+}
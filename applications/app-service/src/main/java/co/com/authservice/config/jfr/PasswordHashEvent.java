@@ -0,0 +1,29 @@
+package co.com.authservice.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted around each BCrypt encode or match. Disabled by default.
+ */
+@Name(PasswordHashEvent.NAME)
+@Label("Password Hash")
+@Description("BCrypt password encode or match")
+@Category({"Auth Service", "Security"})
+@Enabled(false)
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    public static final String NAME = "co.com.authservice.PasswordHash";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    String outcome;
+}
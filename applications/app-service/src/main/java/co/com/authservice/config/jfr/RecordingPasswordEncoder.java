@@ -0,0 +1,56 @@
+package co.com.authservice.config.jfr;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Emits a {@link PasswordHashEvent} around every call to the delegate encoder.
+ */
+public class RecordingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public RecordingPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        try {
+            String encoded = delegate.encode(rawPassword);
+            event.outcome = "encoded";
+            return encoded;
+        } finally {
+            end(event, "encode");
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        try {
+            boolean matches = delegate.matches(rawPassword, encodedPassword);
+            event.outcome = matches ? "match" : "mismatch";
+            return matches;
+        } finally {
+            end(event, "matches");
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static void end(PasswordHashEvent event, String operation) {
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            if (event.outcome == null) {
+                event.outcome = "error";
+            }
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package co.com.authservice.config.metrics;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "observability.metrics", name = "enabled", matchIfMissing = true)
+public class MetricsConfig {
+
+    @Bean
+    public static TimedComponentPostProcessor timedComponentPostProcessor(ObjectProvider<ObservationRegistry> registry) {
+        return new TimedComponentPostProcessor(registry);
+    }
+}
@@ -0,0 +1,154 @@
+package co.com.authservice.config.metrics;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.ContextView;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Wraps every invoked method of a component in an {@link Observation}, which the
+ * registry turns into a timer and, when tracing is on the classpath, into a span.
+ *
+ * <p>{@link Mono} and {@link Flux} results are observed from subscription until the
+ * terminal or cancel signal. The observation is written to the Reactor context, so
+ * gateways and R2DBC statements subscribed underneath become its children. Any other
+ * result is observed around the call itself with the observation opened in scope.
+ * Observations carry the {@code component}, {@code method}, {@code outcome} and
+ * {@code exception} key values; the per-method ones are built once.</p>
+ */
+public class ObservedInvocationInterceptor implements MethodInterceptor {
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_ERROR = "error";
+    static final String OUTCOME_CANCELLED = "cancelled";
+    static final String NO_EXCEPTION = "none";
+
+    private final Supplier<ObservationRegistry> registry;
+    private final String observationName;
+    private final String component;
+    private final Map<Method, KeyValues> keyValues = new ConcurrentHashMap<>();
+
+    public ObservedInvocationInterceptor(Supplier<ObservationRegistry> registry, String observationName,
+                                         String component) {
+        this.registry = registry;
+        this.observationName = observationName;
+        this.component = component;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        ObservationRegistry observationRegistry = registry.get();
+        if (method.getDeclaringClass() == Object.class || observationRegistry.isNoop()) {
+            return invocation.proceed();
+        }
+        Class<?> returnType = method.getReturnType();
+        if (Mono.class.isAssignableFrom(returnType)) {
+            return observeMono(invocation, observationRegistry);
+        }
+        if (Flux.class.isAssignableFrom(returnType)) {
+            return observeFlux(invocation, observationRegistry);
+        }
+        return observeBlocking(invocation, observationRegistry);
+    }
+
+    private Object observeMono(MethodInvocation invocation, ObservationRegistry observationRegistry) throws Throwable {
+        Mono<?> source = (Mono<?>) proceedOrRecord(invocation, observationRegistry);
+        if (source == null) {
+            return null;
+        }
+        return Mono.deferContextual(context -> {
+            Observation observation = start(invocation.getMethod(), observationRegistry, context);
+            return source
+                    .doOnError(error -> fail(observation, error))
+                    .doFinally(signal -> stop(observation, signal))
+                    .contextWrite(inner -> inner.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    private Object observeFlux(MethodInvocation invocation, ObservationRegistry observationRegistry) throws Throwable {
+        Flux<?> source = (Flux<?>) proceedOrRecord(invocation, observationRegistry);
+        if (source == null) {
+            return null;
+        }
+        return Flux.deferContextual(context -> {
+            Observation observation = start(invocation.getMethod(), observationRegistry, context);
+            return source
+                    .doOnError(error -> fail(observation, error))
+                    .doFinally(signal -> stop(observation, signal))
+                    .contextWrite(inner -> inner.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    private Object observeBlocking(MethodInvocation invocation, ObservationRegistry observationRegistry)
+            throws Throwable {
+        Observation observation = start(invocation.getMethod(), observationRegistry, null);
+        try {
+            Object result = observation.scopedChecked(invocation::proceed);
+            observation.lowCardinalityKeyValue("outcome", OUTCOME_SUCCESS)
+                    .lowCardinalityKeyValue("exception", NO_EXCEPTION);
+            return result;
+        } catch (Throwable error) {
+            fail(observation, error);
+            throw error;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Assembly of the publisher itself may throw; that failure is observed as a call
+     * that completed immediately with an error.
+     */
+    private Object proceedOrRecord(MethodInvocation invocation, ObservationRegistry observationRegistry)
+            throws Throwable {
+        try {
+            return invocation.proceed();
+        } catch (Throwable error) {
+            Observation observation = start(invocation.getMethod(), observationRegistry, null);
+            fail(observation, error);
+            observation.stop();
+            throw error;
+        }
+    }
+
+    private Observation start(Method method, ObservationRegistry observationRegistry, ContextView context) {
+        Observation observation = Observation.createNotStarted(observationName, observationRegistry)
+                .contextualName(component + "#" + method.getName())
+                .lowCardinalityKeyValues(keyValues.computeIfAbsent(method,
+                        m -> KeyValues.of("component", component, "method", m.getName())));
+        Observation parent = context != null ? context.getOrDefault(ObservationThreadLocalAccessor.KEY, null) : null;
+        if (parent != null) {
+            observation.parentObservation(parent);
+        }
+        return observation.start();
+    }
+
+    private static void fail(Observation observation, Throwable error) {
+        observation.lowCardinalityKeyValue("outcome", OUTCOME_ERROR)
+                .lowCardinalityKeyValue("exception", error.getClass().getSimpleName())
+                .error(error);
+    }
+
+    private static void stop(Observation observation, SignalType signal) {
+        if (signal == SignalType.ON_COMPLETE) {
+            observation.lowCardinalityKeyValue("outcome", OUTCOME_SUCCESS)
+                    .lowCardinalityKeyValue("exception", NO_EXCEPTION);
+        } else if (signal == SignalType.CANCEL) {
+            observation.lowCardinalityKeyValue("outcome", OUTCOME_CANCELLED)
+                    .lowCardinalityKeyValue("exception", NO_EXCEPTION);
+        }
+        observation.stop();
+    }
+}
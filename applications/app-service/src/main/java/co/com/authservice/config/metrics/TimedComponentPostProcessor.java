@@ -0,0 +1,126 @@
+package co.com.authservice.config.metrics;
+
+import co.com.authservice.jwt.JWTTokenServiceImpl;
+import co.com.authservice.model.role.gateways.RoleRepository;
+import co.com.authservice.model.user.gateways.UserRepository;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * Wraps use cases, gateways and crypto components in an {@link ObservedInvocationInterceptor}
+ * so every call is timed and traced without touching the domain or adapter code.
+ *
+ * <ul>
+ *     <li>{@value #USECASE_METRIC}: public methods of classes in {@code co.com.authservice.usecase}</li>
+ *     <li>{@value #GATEWAY_METRIC}: {@link UserRepository} and {@link RoleRepository} adapters</li>
+ *     <li>{@value #CRYPTO_METRIC}: the BCrypt {@link PasswordEncoder} and JWT signing/verification</li>
+ * </ul>
+ *
+ * <p>For AOT and native images the proxies are known ahead of time:
+ * {@link #determineBeanType} builds the class-based proxies during AOT processing, so their
+ * CGLIB classes are generated at build time, and {@link #processAheadOfTime} registers proxy
+ * hints for the interface-based ones.</p>
+ */
+public class TimedComponentPostProcessor implements SmartInstantiationAwareBeanPostProcessor,
+        BeanRegistrationAotProcessor {
+
+    public static final String USECASE_METRIC = "authservice.usecase";
+    public static final String GATEWAY_METRIC = "authservice.gateway";
+    public static final String CRYPTO_METRIC = "authservice.crypto";
+
+    private static final String USECASE_PACKAGE = "co.com.authservice.usecase.";
+
+    private final Supplier<ObservationRegistry> registry;
+
+    public TimedComponentPostProcessor(ObjectProvider<ObservationRegistry> registry) {
+        this.registry = SingletonSupplier.of(() -> registry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        Timed timed = timedFor(targetClass);
+        if (timed == null) {
+            return bean;
+        }
+        ObservedInvocationInterceptor interceptor = interceptor(timed, targetClass);
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory factory = new ProxyFactory(bean);
+        factory.setProxyTargetClass(timed.proxyTargetClass());
+        factory.addAdvice(interceptor);
+        return factory.getProxy(targetClass.getClassLoader());
+    }
+
+    @Override
+    public Class<?> determineBeanType(Class<?> beanClass, String beanName) {
+        Timed timed = timedFor(beanClass);
+        if (timed == null || !timed.proxyTargetClass()) {
+            return beanClass;
+        }
+        ProxyFactory factory = new ProxyFactory();
+        factory.setTargetClass(beanClass);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(interceptor(timed, beanClass));
+        return factory.getProxyClass(beanClass.getClassLoader());
+    }
+
+    @Override
+    public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+        Class<?> beanClass = registeredBean.getBeanClass();
+        Timed timed = timedFor(beanClass);
+        if (timed == null || timed.proxyTargetClass()) {
+            return null;
+        }
+        Class<?>[] interfaces = AopProxyUtils.completeJdkProxyInterfaces(
+                ClassUtils.getAllInterfacesForClass(beanClass));
+        return (generationContext, beanRegistrationCode) ->
+                generationContext.getRuntimeHints().proxies().registerJdkProxy(interfaces);
+    }
+
+    /**
+     * This post-processor must still be registered when running from AOT-generated code.
+     */
+    @Override
+    public boolean isBeanExcludedFromAotProcessing() {
+        return false;
+    }
+
+    private ObservedInvocationInterceptor interceptor(Timed timed, Class<?> targetClass) {
+        return new ObservedInvocationInterceptor(registry, timed.metricName(), targetClass.getSimpleName());
+    }
+
+    private static Timed timedFor(Class<?> type) {
+        if (type.getName().startsWith(USECASE_PACKAGE) && type.getSimpleName().endsWith("UseCase")) {
+            return new Timed(USECASE_METRIC, true);
+        }
+        if (UserRepository.class.isAssignableFrom(type) || RoleRepository.class.isAssignableFrom(type)) {
+            return new Timed(GATEWAY_METRIC, false);
+        }
+        if (PasswordEncoder.class.isAssignableFrom(type)) {
+            return new Timed(CRYPTO_METRIC, false);
+        }
+        if (JWTTokenServiceImpl.class.isAssignableFrom(type)) {
+            return new Timed(CRYPTO_METRIC, true);
+        }
+        return null;
+    }
+
+    private record Timed(String metricName, boolean proxyTargetClass) {
+    }
+}
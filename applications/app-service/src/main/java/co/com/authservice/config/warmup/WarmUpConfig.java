@@ -0,0 +1,33 @@
+package co.com.authservice.config.warmup;
+
+import co.com.authservice.api.http.DtoCodecs;
+import co.com.authservice.api.runtime.HashingProperties;
+import co.com.authservice.api.runtime.HashingScheduler;
+import co.com.authservice.jwt.JWTTokenServiceImpl;
+import co.com.authservice.model.role.gateways.RoleRepository;
+import co.com.authservice.model.user.gateways.UserRepository;
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+@ConditionalOnProperty(prefix = "runtime.warm-up", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpConfig {
+
+    @Bean
+    public WarmUpRunner warmUpRunner(WarmUpProperties properties,
+                                     ObjectProvider<ConnectionPool> connectionPool,
+                                     UserRepository userRepository,
+                                     RoleRepository roleRepository,
+                                     JWTTokenServiceImpl tokenService,
+                                     PasswordEncoder passwordEncoder,
+                                     HashingScheduler hashingScheduler,
+                                     HashingProperties hashingProperties,
+                                     DtoCodecs codecs) {
+        return new WarmUpRunner(properties, connectionPool.getIfAvailable(), userRepository, roleRepository,
+                tokenService, passwordEncoder, hashingScheduler, hashingProperties.threads(), codecs);
+    }
+}
@@ -0,0 +1,28 @@
+package co.com.authservice.config.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Warm-up run before the readiness state flips to {@code ACCEPTING_TRAFFIC}.
+ *
+ * @param enabled    whether the warm-up runs at all
+ * @param budget     upper bound on the whole warm-up; readiness is reported when it expires
+ * @param iterations rounds of token and serializer work used to trigger JIT compilation
+ */
+@ConfigurationProperties(prefix = "runtime.warm-up")
+public record WarmUpProperties(Boolean enabled, Duration budget, Integer iterations) {
+
+    public WarmUpProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (budget == null || budget.isNegative() || budget.isZero()) {
+            budget = Duration.ofSeconds(15);
+        }
+        if (iterations == null || iterations < 0) {
+            iterations = 200;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package co.com.authservice.config.warmup;
+
+import co.com.authservice.api.dto.request.LoginRequestDTO;
+import co.com.authservice.api.dto.response.LoginResponseDTO;
+import co.com.authservice.api.dto.response.RoleResponseDTO;
+import co.com.authservice.api.dto.response.UserResponseDTO;
+import co.com.authservice.api.dto.response.UserSummaryDTO;
+import co.com.authservice.api.http.DtoCodecs;
+import co.com.authservice.api.http.ResponseFormat;
+import co.com.authservice.api.runtime.HashingScheduler;
+import co.com.authservice.jwt.JWTTokenServiceImpl;
+import co.com.authservice.model.role.Role;
+import co.com.authservice.model.role.gateways.RoleRepository;
+import co.com.authservice.model.user.User;
+import co.com.authservice.model.user.gateways.UserRepository;
+import co.com.authservice.r2dbc.config.PostgreSQLConnectionPool;
+import io.r2dbc.pool.ConnectionPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Warms the service up before it is reported ready. Spring Boot only publishes
+ * {@code ReadinessState.ACCEPTING_TRAFFIC} once every {@link ApplicationRunner} has
+ * returned, so while this runs {@code /actuator/health/readiness} stays
+ * {@code OUT_OF_SERVICE} and no traffic is routed to the pod.
+ *
+ * <p>Three independent steps run in parallel within {@link WarmUpProperties#budget()}:</p>
+ * <ul>
+ *     <li>database: opens the pool's initial connections and runs the login and sign-up
+ *     statements on each of them, so the driver has them prepared;</li>
+ *     <li>hashing: starts every hashing thread with a BCrypt match;</li>
+ *     <li>CPU paths: signs and verifies tokens and encodes/decodes the DTOs in every
+ *     {@link ResponseFormat} with synthetic data, until the iterations or the budget run out.</li>
+ * </ul>
+ *
+ * <p>A failing step is logged and does not fail startup; neither does running out of budget.</p>
+ */
+@Slf4j
+public class WarmUpRunner implements ApplicationRunner {
+
+    static final String SYNTHETIC_EMAIL = "warm-up@authservice.invalid";
+    static final String SYNTHETIC_DOCUMENT = "000000000";
+    static final String SYNTHETIC_PASSWORD = "warm-up-password";
+    static final String SYNTHETIC_ROLE = "CLIENT";
+
+    private static final byte[] LOGIN_REQUEST = ("{\"email\":\"" + SYNTHETIC_EMAIL + "\",\"password\":\""
+            + SYNTHETIC_PASSWORD + "\"}").getBytes(StandardCharsets.UTF_8);
+
+    private final WarmUpProperties properties;
+    private final ConnectionPool connectionPool;
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final JWTTokenServiceImpl tokenService;
+    private final PasswordEncoder passwordEncoder;
+    private final HashingScheduler hashingScheduler;
+    private final int hashingThreads;
+    private final DtoCodecs codecs;
+
+    public WarmUpRunner(WarmUpProperties properties,
+                        ConnectionPool connectionPool,
+                        UserRepository userRepository,
+                        RoleRepository roleRepository,
+                        JWTTokenServiceImpl tokenService,
+                        PasswordEncoder passwordEncoder,
+                        HashingScheduler hashingScheduler,
+                        int hashingThreads,
+                        DtoCodecs codecs) {
+        this.properties = properties;
+        this.connectionPool = connectionPool;
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.tokenService = tokenService;
+        this.passwordEncoder = passwordEncoder;
+        this.hashingScheduler = hashingScheduler;
+        this.hashingThreads = hashingThreads;
+        this.codecs = codecs;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + properties.budget().toNanos();
+        try {
+            Mono.when(step("database", database()),
+                            step("hashing", hashing()),
+                            step("cpu-paths", Mono.fromCallable(() -> cpuPaths(deadline))
+                                    .subscribeOn(Schedulers.boundedElastic())))
+                    .timeout(properties.budget())
+                    .block();
+            log.atInfo()
+                    .setMessage("Warm-up finished")
+                    .addKeyValue("elapsedMs", elapsedMillis(start))
+                    .log();
+        } catch (RuntimeException e) {
+            log.atWarn()
+                    .setMessage("Warm-up stopped")
+                    .addKeyValue("elapsedMs", elapsedMillis(start))
+                    .addKeyValue("exception", e.getClass().getSimpleName())
+                    .log();
+        }
+    }
+
+    private Mono<Void> database() {
+        Mono<Integer> connections = connectionPool != null ? connectionPool.warmup() : Mono.just(0);
+        int concurrency = PostgreSQLConnectionPool.INITIAL_SIZE;
+        return connections
+                .doOnNext(opened -> log.atDebug()
+                        .setMessage("Warm-up opened pooled connections")
+                        .addKeyValue("count", opened)
+                        .log())
+                .thenMany(Flux.range(0, concurrency).flatMap(i -> hotStatements(), concurrency))
+                .then();
+    }
+
+    /**
+     * The statements behind login and user creation, with values that match no row.
+     */
+    private Mono<Void> hotStatements() {
+        return Flux.concat(
+                        userRepository.findByEmail(SYNTHETIC_EMAIL),
+                        userRepository.existByEmail(SYNTHETIC_EMAIL),
+                        userRepository.existByDocumentNumber(SYNTHETIC_DOCUMENT),
+                        roleRepository.findByName(SYNTHETIC_ROLE),
+                        roleRepository.findById(0L))
+                .then();
+    }
+
+    private Mono<Void> hashing() {
+        return hashingScheduler.submit(() -> passwordEncoder.encode(SYNTHETIC_PASSWORD))
+                .flatMapMany(hash -> Flux.range(0, hashingThreads)
+                        .flatMap(i -> hashingScheduler.submit(() -> passwordEncoder.matches(SYNTHETIC_PASSWORD, hash))))
+                .then();
+    }
+
+    private int cpuPaths(long deadline) throws IOException {
+        Role role = Role.builder().id(0L).name(SYNTHETIC_ROLE).description("Warm-up role").build();
+        User user = User.builder().id(0L).email(SYNTHETIC_EMAIL).name("Warm").lastname("Up").role(role).build();
+        RoleResponseDTO roleResponse = new RoleResponseDTO(role.getId(), role.getName(), role.getDescription());
+        List<UserResponseDTO> users = List.of(new UserResponseDTO(user.getId(), SYNTHETIC_DOCUMENT,
+                user.getName(), user.getLastname(), LocalDate.of(1990, 1, 1), "Warm-up address",
+                "+57 300 000 0000", new BigDecimal("1000000.00"), SYNTHETIC_EMAIL, roleResponse));
+        UserSummaryDTO summary = new UserSummaryDTO(user.getId(), "Warm Up", SYNTHETIC_EMAIL, roleResponse);
+
+        int iterations = 0;
+        while (iterations < properties.iterations() && System.nanoTime() < deadline) {
+            String token = tokenService.generateToken(user, 0L);
+            tokenService.verify(token);
+            LoginResponseDTO login = new LoginResponseDTO(token, tokenService.getExpirationTime(), summary);
+            for (ResponseFormat format : ResponseFormat.values()) {
+                codecs.decode(codecs.encode(login, format), format, LoginResponseDTO.class);
+                codecs.encode(users, format);
+            }
+            codecs.decode(LOGIN_REQUEST, ResponseFormat.JSON, LoginRequestDTO.class);
+            iterations++;
+        }
+        return iterations;
+    }
+
+    private static Mono<Void> step(String name, Mono<?> work) {
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return work.doOnSuccess(result -> log.atDebug()
+                            .setMessage("Warm-up step done")
+                            .addKeyValue("step", name)
+                            .addKeyValue("elapsedMs", elapsedMillis(start))
+                            .log());
+                })
+                .onErrorResume(e -> {
+                    log.atWarn()
+                            .setMessage("Warm-up step failed")
+                            .addKeyValue("step", name)
+                            .addKeyValue("exception", e.getClass().getSimpleName())
+                            .log();
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
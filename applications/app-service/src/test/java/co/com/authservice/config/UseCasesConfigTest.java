@@ -1,5 +1,6 @@
 package co.com.authservice.config;
 
+import co.com.authservice.model.audit.gateways.AuditEventRepository;
 import co.com.authservice.model.role.gateways.RoleRepository;
 import co.com.authservice.model.user.gateways.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,11 @@ public class UseCasesConfigTest {
         public RoleRepository roleRepository() {
             return Mockito.mock(RoleRepository.class);
         }
+
+        @Bean
+        public AuditEventRepository auditEventRepository() {
+            return Mockito.mock(AuditEventRepository.class);
+        }
     }
 
     static class MyUseCase {
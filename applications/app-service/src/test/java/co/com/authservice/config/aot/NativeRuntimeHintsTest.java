@@ -0,0 +1,56 @@
+package co.com.authservice.config.aot;
+
+import co.com.authservice.api.dto.response.LoginResponseDTO;
+import co.com.authservice.model.user.User;
+import co.com.authservice.r2dbc.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should allow the object mapper to construct and populate models and entities")
+    void shouldRegisterMappedTypes() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(User.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserEntity.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS)
+                .test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register the JJWT implementations loaded by name and its service files")
+    void shouldRegisterJjwtImplementations() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Deserializer")
+                .test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register the DTOs for Jackson binding")
+    void shouldRegisterDtoBinding() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(LoginResponseDTO.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("proto/authservice_responses.proto").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("openapi/authservice-openapi.json").test(hints));
+    }
+}
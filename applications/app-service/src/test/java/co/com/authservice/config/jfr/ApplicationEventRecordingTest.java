@@ -0,0 +1,54 @@
+package co.com.authservice.config.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApplicationEventRecordingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should record password hash events once the recording is started")
+    void shouldRecordPasswordHashEvents() throws Exception {
+        Path dump = tempDir.resolve("authservice.jfr");
+        ApplicationEventRecording recording = new ApplicationEventRecording(
+                new JfrProperties(true, null, null, null, null));
+        PasswordEncoder encoder = new RecordingPasswordEncoder(new BCryptPasswordEncoder(4));
+
+        recording.afterPropertiesSet();
+        try {
+            String hash = encoder.encode("secret");
+            assertTrue(encoder.matches("secret", hash));
+            encoder.matches("other", hash);
+            recording.recording().dump(dump);
+        } finally {
+            recording.destroy();
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals(PasswordHashEvent.NAME))
+                .toList();
+        assertEquals(3, events.size());
+        assertEquals("encode", events.get(0).getString("operation"));
+        assertTrue(events.stream().anyMatch(event -> "mismatch".equals(event.getString("outcome"))));
+    }
+
+    @Test
+    @DisplayName("Should not record events when no recording enables them")
+    void shouldNotRecordWhenDisabled() {
+        assertFalse(new PasswordHashEvent().isEnabled());
+    }
+}
@@ -0,0 +1,179 @@
+package co.com.authservice.config.metrics;
+
+import co.com.authservice.api.lockout.AccountLockout;
+import co.com.authservice.api.logging.LogSampler;
+import co.com.authservice.api.security.ErrorResponseWriter;
+import co.com.authservice.api.security.JWTAuthenticationFilter;
+import co.com.authservice.api.security.PermissionProperties;
+import co.com.authservice.api.security.PermissionRegistry;
+import co.com.authservice.api.security.RouteAccess;
+import co.com.authservice.api.security.RoutePolicyProperties;
+import co.com.authservice.api.security.RoutePolicyTable;
+import co.com.authservice.api.security.VerifiedTokenCache;
+import co.com.authservice.jwt.JWTTokenServiceImpl;
+import co.com.authservice.jwt.VerifiedToken;
+import co.com.authservice.model.user.gateways.UserRepository;
+import co.com.authservice.r2dbc.RoleReactiveRepository;
+import co.com.authservice.r2dbc.UserReactiveRepository;
+import co.com.authservice.r2dbc.UserReactiveRepositoryAdapter;
+import co.com.authservice.r2dbc.outbox.OutboxWriter;
+import co.com.authservice.usecase.auth.LoginUseCase;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.observation.ObservationProxyExecutionListener;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivecommons.utils.ObjectMapperImp;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.r2dbc.core.DefaultReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Follows one authenticated request through the real auth filter, use case proxy,
+ * gateway proxy and R2DBC statement listener into an in-process tracer, with the driver
+ * underneath stubbed so no database is needed.
+ */
+@DisplayName("Request tracing - Span Structure Tests")
+class RequestTracingTest {
+
+    private static final String TOKEN = "token";
+
+    private SimpleTracer tracer;
+    private ObservationRegistry observationRegistry;
+    private JWTAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tracer = new SimpleTracer();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+        TimedComponentPostProcessor postProcessor = new TimedComponentPostProcessor(
+                new StaticListableBeanFactory(Map.of("observationRegistry", observationRegistry))
+                        .getBeanProvider(ObservationRegistry.class));
+
+        DatabaseClient databaseClient = DatabaseClient.create(observedDriver());
+        R2dbcRepositoryFactory repositories = new R2dbcRepositoryFactory(databaseClient,
+                new DefaultReactiveDataAccessStrategy(PostgresDialect.INSTANCE));
+        UserRepository userRepository = (UserRepository) postProcessor.postProcessAfterInitialization(
+                new UserReactiveRepositoryAdapter(repositories.getRepository(UserReactiveRepository.class),
+                        repositories.getRepository(RoleReactiveRepository.class), new ObjectMapperImp(),
+                        mock(TransactionalOperator.class), mock(OutboxWriter.class)),
+                "userRepository");
+        LoginUseCase loginUseCase = (LoginUseCase) postProcessor
+                .postProcessAfterInitialization(new LoginUseCase(userRepository), "loginUseCase");
+
+        JWTTokenServiceImpl jwtTokenService = mock(JWTTokenServiceImpl.class);
+        when(jwtTokenService.verify(TOKEN)).thenReturn(
+                new VerifiedToken("user@mail.com", 1L, "CLIENT", 0L, Instant.now().plusSeconds(60)));
+        PermissionRegistry permissionRegistry = new PermissionRegistry(new PermissionProperties(List.of(), Map.of()));
+        filter = new JWTAuthenticationFilter(jwtTokenService, loginUseCase, mock(VerifiedTokenCache.class),
+                mock(AccountLockout.class),
+                new RoutePolicyTable(new RoutePolicyProperties(RouteAccess.AUTHENTICATED, List.of()), permissionRegistry),
+                permissionRegistry, new ErrorResponseWriter(), new LogSampler(10, Duration.ofSeconds(1)),
+                observationRegistry);
+    }
+
+    @Test
+    @DisplayName("Should nest auth decision, use case, gateway and SQL statement spans in one trace")
+    void shouldTraceRequestDownToStatement() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.GET, "/api/v1/user")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+        Observation server = Observation.start("http.server.requests", observationRegistry);
+
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.empty())
+                        .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, server)))
+                .verifyComplete();
+        server.stop();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        SimpleSpan serverSpan = span("http.server.requests");
+        SimpleSpan decisionSpan = span("auth-decision");
+        SimpleSpan useCaseSpan = span("login-use-case#validate-user-credentials");
+        SimpleSpan gatewaySpan = span("user-reactive-repository-adapter#find-by-email");
+        SimpleSpan statementSpan = span("query");
+        assertChild(serverSpan, decisionSpan);
+        assertChild(decisionSpan, useCaseSpan);
+        assertChild(useCaseSpan, gatewaySpan);
+        assertChild(gatewaySpan, statementSpan);
+        assertEquals("rejected", decisionSpan.getTags().get("outcome"));
+        assertTrue(statementSpan.getTags().get("r2dbc.query[0]").endsWith("FROM users WHERE users.email = $1"),
+                () -> "Unexpected statement " + statementSpan.getTags());
+        assertTrue(statementSpan.getTags().keySet().stream().noneMatch(key -> key.startsWith("r2dbc.params")),
+                "Bind values must not be attached to statement spans");
+    }
+
+    /**
+     * A driver that opens connections and returns an empty result for any statement,
+     * behind the same observation listener the connection pool installs.
+     */
+    @SuppressWarnings("unchecked")
+    private ConnectionFactory observedDriver() {
+        ConnectionFactory driver = mock(ConnectionFactory.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        Result result = mock(Result.class);
+        ConnectionFactoryMetadata metadata = () -> "PostgreSQL";
+        when(driver.getMetadata()).thenReturn(metadata);
+        when(driver.create()).thenAnswer(invocation -> Mono.just(connection));
+        when(connection.createStatement(anyString())).thenReturn(statement);
+        when(connection.close()).thenAnswer(invocation -> Mono.empty());
+        when(statement.bind(anyInt(), any())).thenReturn(statement);
+        when(statement.bind(anyString(), any())).thenReturn(statement);
+        when(statement.execute()).thenAnswer(invocation -> Flux.just(result));
+        when(result.map(any(BiFunction.class))).thenAnswer(invocation -> Flux.empty());
+
+        ObservationProxyExecutionListener statements = new ObservationProxyExecutionListener(
+                observationRegistry, driver, "r2dbc:postgresql://localhost:5432/authservice_db");
+        statements.setIncludeParameterValues(false);
+        return ProxyConnectionFactory.builder(driver).listener(statements).build();
+    }
+
+    private SimpleSpan span(String name) {
+        return tracer.getSpans().stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span " + name + " in " + tracer.getSpans().stream()
+                        .map(SimpleSpan::getName).toList()));
+    }
+
+    private static void assertChild(SimpleSpan parent, SimpleSpan child) {
+        assertEquals(parent.getTraceId(), child.getTraceId(), child.getName());
+        assertEquals(parent.getSpanId(), child.getParentId(), child.getName() + " parent");
+    }
+}
@@ -0,0 +1,221 @@
+package co.com.authservice.config.metrics;
+
+import co.com.authservice.model.user.User;
+import co.com.authservice.model.user.exceptions.user.UserNotFoundException;
+import co.com.authservice.model.user.gateways.UserRepository;
+import co.com.authservice.usecase.auth.LoginUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TimedComponentPostProcessorTest {
+
+    private MeterRegistry registry;
+    private SimpleTracer tracer;
+    private TimedComponentPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        tracer = new SimpleTracer();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig()
+                .observationHandler(new DefaultMeterObservationHandler(registry))
+                .observationHandler(new DefaultTracingObservationHandler(tracer));
+        StaticListableBeanFactory beanFactory =
+                new StaticListableBeanFactory(Map.of("observationRegistry", observationRegistry));
+        postProcessor = new TimedComponentPostProcessor(beanFactory.getBeanProvider(ObservationRegistry.class));
+    }
+
+    @Test
+    @DisplayName("Should time gateway calls on subscription and tag them as success")
+    void shouldTimeGatewayMonoOnSubscription() {
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findByEmail(anyString())).thenReturn(Mono.just(new User()));
+        UserRepository timed = (UserRepository) postProcessor.postProcessAfterInitialization(repository, "userRepository");
+
+        Mono<User> result = timed.findByEmail("user@test.com");
+        assertEquals(0, timerCount("success", "findByEmail"), "Nothing should be recorded before subscription");
+
+        StepVerifier.create(result).expectNextCount(1).verifyComplete();
+
+        assertEquals(1, timerCount("success", "findByEmail"));
+    }
+
+    @Test
+    @DisplayName("Should tag failed gateway calls with the exception type")
+    void shouldTagErrorsWithExceptionType() {
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findByEmail(anyString())).thenReturn(Mono.error(new UserNotFoundException("missing")));
+        UserRepository timed = (UserRepository) postProcessor.postProcessAfterInitialization(repository, "userRepository");
+
+        StepVerifier.create(timed.findByEmail("user@test.com"))
+                .expectError(UserNotFoundException.class)
+                .verify();
+
+        Timer timer = registry.find(TimedComponentPostProcessor.GATEWAY_METRIC)
+                .tag("method", "findByEmail")
+                .tag("outcome", "error")
+                .tag("exception", "UserNotFoundException")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Should time flux gateway calls until completion")
+    void shouldTimeFluxUntilCompletion() {
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.getAll()).thenReturn(Flux.just(new User(), new User()));
+        UserRepository timed = (UserRepository) postProcessor.postProcessAfterInitialization(repository, "userRepository");
+
+        StepVerifier.create(timed.getAll()).expectNextCount(2).verifyComplete();
+
+        assertEquals(1, timerCount("success", "getAll"));
+    }
+
+    @Test
+    @DisplayName("Should proxy use cases by class and record under the use case metric")
+    void shouldProxyUseCasesByClass() {
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findByEmail(anyString())).thenReturn(Mono.just(new User()));
+        Object bean = postProcessor.postProcessAfterInitialization(new LoginUseCase(repository), "loginUseCase");
+
+        assertTrue(AopUtils.isCglibProxy(bean));
+        StepVerifier.create(((LoginUseCase) bean).validateUserCredentials("user@test.com"))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Timer timer = registry.find(TimedComponentPostProcessor.USECASE_METRIC)
+                .tag("component", "LoginUseCase")
+                .tag("method", "validateUserCredentials")
+                .tag("outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Should time synchronous password encoder calls")
+    void shouldTimeSynchronousCalls() {
+        PasswordEncoder encoder = (PasswordEncoder) postProcessor
+                .postProcessAfterInitialization(new BCryptPasswordEncoder(4), "passwordEncoder");
+
+        assertTrue(encoder.matches("secret", encoder.encode("secret")));
+
+        Timer timer = registry.find(TimedComponentPostProcessor.CRYPTO_METRIC)
+                .tag("method", "matches")
+                .tag("outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Should nest gateway spans under the use case span that subscribes to them")
+    void shouldNestGatewaySpansUnderUseCaseSpan() {
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findByEmail(anyString())).thenReturn(Mono.just(new User()));
+        UserRepository timedRepository =
+                (UserRepository) postProcessor.postProcessAfterInitialization(repository, "userRepository");
+        LoginUseCase useCase = (LoginUseCase) postProcessor
+                .postProcessAfterInitialization(new LoginUseCase(timedRepository), "loginUseCase");
+
+        StepVerifier.create(useCase.validateUserCredentials("user@test.com"))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // The tracing handler turns contextual names into lower-hyphen span names.
+        List<SimpleSpan> spans = List.copyOf(tracer.getSpans());
+        SimpleSpan useCaseSpan = spans.stream()
+                .filter(span -> span.getName().equals("login-use-case#validate-user-credentials"))
+                .findFirst()
+                .orElseThrow();
+        SimpleSpan gatewaySpan = spans.stream()
+                .filter(span -> span.getName().startsWith("user-repository"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(useCaseSpan.getTraceId(), gatewaySpan.getTraceId());
+        assertEquals(useCaseSpan.getSpanId(), gatewaySpan.getParentId());
+    }
+
+    @Test
+    @DisplayName("Should expose the class-based proxy type so AOT generates it at build time")
+    void shouldDetermineProxyTypeForUseCases() {
+        Class<?> beanType = postProcessor.determineBeanType(LoginUseCase.class, "loginUseCase");
+
+        assertTrue(beanType.getName().contains(ClassUtils.CGLIB_CLASS_SEPARATOR));
+        assertTrue(LoginUseCase.class.isAssignableFrom(beanType));
+        assertSame(Object.class, postProcessor.determineBeanType(Object.class, "other"));
+    }
+
+    @Test
+    @DisplayName("Should register JDK proxy hints for interface-based proxies")
+    void shouldRegisterProxyHintsAheadOfTime() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("passwordEncoder", new RootBeanDefinition(BCryptPasswordEncoder.class));
+        RuntimeHints hints = new RuntimeHints();
+        GenerationContext generationContext = mock(GenerationContext.class);
+        when(generationContext.getRuntimeHints()).thenReturn(hints);
+
+        BeanRegistrationAotContribution contribution =
+                postProcessor.processAheadOfTime(RegisteredBean.of(beanFactory, "passwordEncoder"));
+        assertNotNull(contribution);
+        contribution.applyTo(generationContext, mock(BeanRegistrationCode.class));
+
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(AopProxyUtils.completeJdkProxyInterfaces(
+                PasswordEncoder.class)).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should leave unrelated beans untouched")
+    void shouldLeaveUnrelatedBeansUntouched() {
+        Object bean = new Object();
+
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+
+    private long timerCount(String outcome, String method) {
+        Timer timer = registry.find(TimedComponentPostProcessor.GATEWAY_METRIC)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
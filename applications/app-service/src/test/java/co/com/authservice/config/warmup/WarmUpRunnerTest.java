@@ -0,0 +1,122 @@
+package co.com.authservice.config.warmup;
+
+import co.com.authservice.api.http.DtoCodecs;
+import co.com.authservice.api.runtime.HashingProperties;
+import co.com.authservice.api.runtime.HashingScheduler;
+import co.com.authservice.jwt.JWTTokenServiceImpl;
+import co.com.authservice.model.role.gateways.RoleRepository;
+import co.com.authservice.model.user.gateways.UserRepository;
+import co.com.authservice.r2dbc.config.PostgreSQLConnectionPool;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WarmUpRunnerTest {
+
+    private static final String SECRET = "test-secret-key-with-enough-length-for-hmac-sha-256-signatures";
+
+    private ConnectionPool connectionPool;
+    private UserRepository userRepository;
+    private RoleRepository roleRepository;
+    private JWTTokenServiceImpl tokenService;
+    private PasswordEncoder passwordEncoder;
+    private HashingScheduler hashingScheduler;
+    private DtoCodecs codecs;
+
+    @BeforeEach
+    void setUp() {
+        connectionPool = mock(ConnectionPool.class);
+        when(connectionPool.warmup()).thenReturn(Mono.just(PostgreSQLConnectionPool.INITIAL_SIZE));
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(anyString())).thenReturn(Mono.empty());
+        when(userRepository.existByEmail(anyString())).thenReturn(Mono.just(false));
+        when(userRepository.existByDocumentNumber(anyString())).thenReturn(Mono.just(false));
+        roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findByName(anyString())).thenReturn(Mono.empty());
+        when(roleRepository.findById(anyLong())).thenReturn(Mono.empty());
+        tokenService = spy(new JWTTokenServiceImpl(SECRET, 3600));
+        passwordEncoder = spy(new BCryptPasswordEncoder(4));
+        hashingScheduler = new HashingScheduler(new HashingProperties(2, 8),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        codecs = new DtoCodecs(JsonMapper.builder().findAndAddModules().build(), new Jackson2ObjectMapperBuilder());
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingScheduler.destroy();
+    }
+
+    @Test
+    @DisplayName("Should open pooled connections and run the hot statements on each of them")
+    void shouldWarmTheDatabase() {
+        runner(new WarmUpProperties(true, Duration.ofSeconds(10), 1)).run(new DefaultApplicationArguments());
+
+        verify(connectionPool).warmup();
+        verify(userRepository, times(PostgreSQLConnectionPool.INITIAL_SIZE)).findByEmail(WarmUpRunner.SYNTHETIC_EMAIL);
+        verify(userRepository, times(PostgreSQLConnectionPool.INITIAL_SIZE)).existByEmail(WarmUpRunner.SYNTHETIC_EMAIL);
+        verify(roleRepository, times(PostgreSQLConnectionPool.INITIAL_SIZE)).findByName(WarmUpRunner.SYNTHETIC_ROLE);
+    }
+
+    @Test
+    @DisplayName("Should exercise token signing, verification and password hashing")
+    void shouldExerciseCpuPaths() {
+        runner(new WarmUpProperties(true, Duration.ofSeconds(10), 3)).run(new DefaultApplicationArguments());
+
+        verify(tokenService, times(3)).verify(anyString());
+        verify(passwordEncoder).encode(WarmUpRunner.SYNTHETIC_PASSWORD);
+        verify(passwordEncoder, times(2)).matches(eq(WarmUpRunner.SYNTHETIC_PASSWORD), anyString());
+    }
+
+    @Test
+    @DisplayName("Should keep warming the other paths when the database is unavailable")
+    void shouldNotFailWhenDatabaseIsDown() {
+        when(connectionPool.warmup()).thenReturn(Mono.error(new IllegalStateException("connection refused")));
+
+        assertDoesNotThrow(() -> runner(new WarmUpProperties(true, Duration.ofSeconds(10), 2))
+                .run(new DefaultApplicationArguments()));
+
+        verify(tokenService, times(2)).verify(anyString());
+        verify(passwordEncoder, atLeastOnce()).encode(WarmUpRunner.SYNTHETIC_PASSWORD);
+    }
+
+    @Test
+    @DisplayName("Should give up when the budget runs out")
+    void shouldStopAtTheBudget() {
+        when(connectionPool.warmup()).thenReturn(Mono.never());
+        WarmUpRunner runner = runner(new WarmUpProperties(true, Duration.ofMillis(300), Integer.MAX_VALUE));
+
+        long start = System.nanoTime();
+        assertDoesNotThrow(() -> runner.run(new DefaultApplicationArguments()));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    private WarmUpRunner runner(WarmUpProperties properties) {
+        return new WarmUpRunner(properties, connectionPool, userRepository, roleRepository, tokenService,
+                passwordEncoder, hashingScheduler, 2, codecs);
+    }
+}
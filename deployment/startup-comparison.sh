@@ -0,0 +1,66 @@
+#!/usr/bin/env sh
+# Compares time-to-ready, time to the first login and resident memory of the JVM jar, the
+# JVM jar with the AppCDS archive, the JVM jar running the AOT-generated context, and the
+# native executable.
+#
+#   ./gradlew :app-service:bootJar :app-service:cdsArchive :app-service:nativeCompile
+#   LOGIN_EMAIL=... LOGIN_PASSWORD=... deployment/startup-comparison.sh
+#
+# Needs the same database and environment variables as a normal local run. The first-login
+# column is only filled when LOGIN_EMAIL and LOGIN_PASSWORD are set.
+set -eu
+
+JAR=$(ls applications/app-service/build/libs/*.jar | grep -v plain | head -n 1)
+CDS_DIR=applications/app-service/build/cds
+NATIVE=applications/app-service/build/native/nativeCompile/authservice
+BASE_URL=${BASE_URL:-http://localhost:8081}
+
+now_ms() {
+    date +%s%3N
+}
+
+first_login() {
+    if [ -z "${LOGIN_EMAIL:-}" ] || [ -z "${LOGIN_PASSWORD:-}" ]; then
+        echo "-"
+        return
+    fi
+    curl -fs -o /dev/null -H 'Content-Type: application/json' \
+        -d "{\"email\":\"$LOGIN_EMAIL\",\"password\":\"$LOGIN_PASSWORD\"}" \
+        "$BASE_URL/api/v1/auth/login" || true
+    echo "$(( $(now_ms) - $1 ))"
+}
+
+measure() {
+    label=$1
+    shift
+    start=$(now_ms)
+    "$@" > /dev/null 2>&1 &
+    pid=$!
+    until curl -fs "$BASE_URL/actuator/health/readiness" > /dev/null 2>&1; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$label: process exited before becoming ready"
+            return 1
+        fi
+        sleep 0.05
+    done
+    ready=$(( $(now_ms) - start ))
+    login=$(first_login "$start")
+    rss=$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")
+    printf '%-10s ready in %6d ms, first login at %6s ms, RSS %7d kB\n' "$label" "$ready" "$login" "$rss"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+measure jvm java -jar "$JAR"
+if [ -f "$CDS_DIR/authservice.jsa" ]; then
+    # The archive records the class path it was written with, so start from the same directory.
+    measure jvm-cds sh -c "cd $CDS_DIR && exec java -XX:SharedArchiveFile=authservice.jsa -jar authservice.jar"
+else
+    echo "jvm-cds    skipped: $CDS_DIR/authservice.jsa not built"
+fi
+measure jvm-aot java -Dspring.aot.enabled=true -jar "$JAR"
+if [ -x "$NATIVE" ]; then
+    measure native "$NATIVE"
+else
+    echo "native     skipped: $NATIVE not built"
+fi
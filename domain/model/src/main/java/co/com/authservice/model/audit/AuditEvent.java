@@ -0,0 +1,17 @@
+package co.com.authservice.model.audit;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to an account, kept for the audit trail.
+ *
+ * @param type       what happened
+ * @param userId     the account it happened to
+ * @param occurredAt when it happened
+ */
+public record AuditEvent(AuditEventType type, Long userId, Instant occurredAt) {
+
+    public static AuditEvent of(AuditEventType type, Long userId) {
+        return new AuditEvent(type, userId, Instant.now());
+    }
+}
@@ -0,0 +1,8 @@
+package co.com.authservice.model.audit;
+
+public enum AuditEventType {
+    LOGIN_SUCCEEDED,
+    LOGIN_FAILED,
+    LOGIN_LOCKED,
+    USER_CREATED
+}
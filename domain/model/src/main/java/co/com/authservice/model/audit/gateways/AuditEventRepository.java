@@ -0,0 +1,13 @@
+package co.com.authservice.model.audit.gateways;
+
+import co.com.authservice.model.audit.AuditEvent;
+
+public interface AuditEventRepository {
+
+    /**
+     * Hands {@code event} over for storage without waiting for it to be written. Never
+     * blocks and never fails the caller; an event that cannot be accepted is dropped and
+     * accounted for by the implementation.
+     */
+    void record(AuditEvent event);
+}
@@ -0,0 +1,17 @@
+package co.com.authservice.model.lockout;
+
+import java.time.Instant;
+
+/**
+ * Failed-login state of an account.
+ *
+ * @param userId         the account
+ * @param failedAttempts consecutive failures since the last success or lockout
+ * @param lockedUntil    end of the current or last lockout, or {@code null} if never locked
+ */
+public record LoginFailure(Long userId, int failedAttempts, Instant lockedUntil) {
+
+    public boolean isLockedAt(Instant instant) {
+        return lockedUntil != null && lockedUntil.isAfter(instant);
+    }
+}
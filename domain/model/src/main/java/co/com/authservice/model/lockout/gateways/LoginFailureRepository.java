@@ -0,0 +1,14 @@
+package co.com.authservice.model.lockout.gateways;
+
+import co.com.authservice.model.lockout.LoginFailure;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface LoginFailureRepository {
+
+    /**
+     * Stores the failed-login state of every account in {@code failures} as one batch.
+     */
+    Mono<Void> saveAll(List<LoginFailure> failures);
+}
@@ -0,0 +1,17 @@
+package co.com.authservice.model.outbox;
+
+import java.time.Instant;
+
+/**
+ * A change committed together with the data it describes, waiting to be published.
+ *
+ * @param id            increasing position in the outbox; consumers can use it to drop duplicates
+ * @param aggregateType kind of entity that changed, for example {@code user}
+ * @param aggregateId   id of that entity
+ * @param eventType     what happened, for example {@code USER_CREATED}
+ * @param payload       JSON document describing the change
+ * @param createdAt     when the change was committed
+ */
+public record OutboxEvent(Long id, String aggregateType, Long aggregateId, String eventType, String payload,
+                          Instant createdAt) {
+}
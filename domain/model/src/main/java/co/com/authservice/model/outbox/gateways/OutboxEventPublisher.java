@@ -0,0 +1,16 @@
+package co.com.authservice.model.outbox.gateways;
+
+import co.com.authservice.model.outbox.OutboxEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface OutboxEventPublisher {
+
+    /**
+     * Publishes {@code events} in outbox order. Completes once all of them have been
+     * handed over; an error leaves the whole batch to be published again, so delivery
+     * is at least once.
+     */
+    Mono<Void> publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,19 @@
+package co.com.authservice.model.ratelimit.gateways;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Rate-limit state shared by every instance of the service.
+ */
+public interface RateLimitRepository {
+
+    /**
+     * Takes one permit for {@code key} from a GCRA bucket that regains a permit every
+     * {@code emissionInterval} and accepts bursts up to {@code tolerance} ahead of schedule.
+     *
+     * @return {@link Duration#ZERO} when accepted, otherwise how long to wait
+     */
+    Mono<Duration> acquire(String key, Duration emissionInterval, Duration tolerance);
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Getter
@@ -27,4 +28,6 @@ public class User {
     private String password;
     private BigDecimal baseSalary;
     private Role role;
+    private Integer failedLoginAttempts;
+    private Instant lockedUntil;
 }
@@ -0,0 +1,14 @@
+package co.com.authservice.model.user.exceptions;
+
+/**
+ * Base type for expected business rule violations.
+ *
+ * <p>These exceptions are part of normal control flow (validation failures, duplicated
+ * data, missing resources), so they neither capture a stack trace nor support
+ * suppression: creating one costs about the same as creating its message.</p>
+ */
+public abstract class BusinessException extends RuntimeException {
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,6 +1,8 @@
 package co.com.authservice.model.user.exceptions.user;
 
-public class EmailAlreadyExistsException extends RuntimeException {
+import co.com.authservice.model.user.exceptions.BusinessException;
+
+public class EmailAlreadyExistsException extends BusinessException {
     public EmailAlreadyExistsException(String email) {
         super("Email '" + email + "' is already registered");
     }
@@ -0,0 +1,12 @@
+package co.com.authservice.model.user.exceptions.user;
+
+/**
+ * A single invalid field and the reason it was rejected.
+ */
+public record FieldError(String field, String reason) {
+
+    @Override
+    public String toString() {
+        return "Invalid " + field + ": " + reason;
+    }
+}
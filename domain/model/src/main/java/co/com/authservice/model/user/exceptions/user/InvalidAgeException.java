@@ -1,6 +1,8 @@
 package co.com.authservice.model.user.exceptions.user;
 
-public class InvalidAgeException extends RuntimeException {
+import co.com.authservice.model.user.exceptions.BusinessException;
+
+public class InvalidAgeException extends BusinessException {
     public InvalidAgeException(int age) {
         super("User must be at least 18 years old, but was " + age);
     }
@@ -1,8 +1,10 @@
 package co.com.authservice.model.user.exceptions.user;
 
+import co.com.authservice.model.user.exceptions.BusinessException;
+
 import java.math.BigDecimal;
 
-public class InvalidSalaryException extends RuntimeException {
+public class InvalidSalaryException extends BusinessException {
     private InvalidSalaryException(String message) {
         super(message);
     }
@@ -1,6 +1,8 @@
 package co.com.authservice.model.user.exceptions.user;
 
-public class UserNotFoundException extends RuntimeException {
+import co.com.authservice.model.user.exceptions.BusinessException;
+
+public class UserNotFoundException extends BusinessException {
     public UserNotFoundException(String message) {
         super(message);
     }
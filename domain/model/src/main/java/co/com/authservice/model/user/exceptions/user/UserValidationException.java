@@ -1,7 +1,28 @@
 package co.com.authservice.model.user.exceptions.user;
 
-public class UserValidationException extends RuntimeException {
+import co.com.authservice.model.user.exceptions.BusinessException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * One or more invalid fields. The message lists every {@link FieldError}, so the client
+ * can fix all of them in a single round trip.
+ */
+public class UserValidationException extends BusinessException {
+
+    private final transient List<FieldError> errors;
+
     public UserValidationException(String field, String reason) {
-        super("Invalid " + field + ": " + reason);
+        this(List.of(new FieldError(field, reason)));
+    }
+
+    public UserValidationException(List<FieldError> errors) {
+        super(errors.stream().map(FieldError::toString).collect(Collectors.joining("; ")));
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<FieldError> getErrors() {
+        return errors;
     }
 }
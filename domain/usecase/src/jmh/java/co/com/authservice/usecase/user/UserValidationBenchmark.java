@@ -0,0 +1,136 @@
+package co.com.authservice.usecase.user;
+
+import co.com.authservice.model.user.User;
+import co.com.authservice.model.user.exceptions.user.InvalidAgeException;
+import co.com.authservice.model.user.exceptions.user.InvalidSalaryException;
+import co.com.authservice.model.user.exceptions.user.UserValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserUseCase}'s validation against the previous per-call implementation, which
+ * chained a {@code Mono} per rule and matched the email with {@code String.matches}.
+ * Both are measured up to the {@code Mono} returned to the caller and subscribed
+ * synchronously.
+ *
+ * <p>Run with {@code ./gradlew :usecase:jmh}; the GC profiler reports the bytes allocated
+ * per operation.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserValidationBenchmark {
+
+    private static final BigDecimal MAX_SALARY = new BigDecimal("15000000");
+
+    private final User valid = User.builder()
+            .name("Juan")
+            .lastname("Pérez")
+            .email("juan.perez@email.com")
+            .password("secret-password")
+            .documentNumber("1234567890")
+            .birthdayDate(LocalDate.of(1990, 5, 15))
+            .baseSalary(new BigDecimal("5000000"))
+            .build();
+
+    private final User invalid = valid.toBuilder()
+            .name(" ")
+            .email("juan.perez-at-email.com")
+            .password(null)
+            .build();
+
+    @Benchmark
+    public void engineValid(Blackhole blackhole) {
+        engine(valid).subscribe(blackhole::consume, blackhole::consume);
+    }
+
+    @Benchmark
+    public void engineInvalid(Blackhole blackhole) {
+        engine(invalid).subscribe(blackhole::consume, blackhole::consume);
+    }
+
+    @Benchmark
+    public void legacyValid(Blackhole blackhole) {
+        legacy(valid).subscribe(blackhole::consume, blackhole::consume);
+    }
+
+    @Benchmark
+    public void legacyInvalid(Blackhole blackhole) {
+        legacy(invalid).subscribe(blackhole::consume, blackhole::consume);
+    }
+
+    private static Mono<Void> engine(User user) {
+        return Mono.fromRunnable(() -> {
+            RuntimeException violation = UserUseCase.findViolation(user);
+            if (violation != null) {
+                throw violation;
+            }
+        });
+    }
+
+    private static Mono<Void> legacy(User user) {
+        return legacyFields(user)
+                .then(legacyAge(user))
+                .then(legacySalary(user.getBaseSalary()));
+    }
+
+    private static Mono<Void> legacyFields(User user) {
+        if (isBlank(user.getName())) {
+            return Mono.error(new UserValidationException("name", "name is required"));
+        }
+        if (isBlank(user.getLastname())) {
+            return Mono.error(new UserValidationException("lastname", "lastname is required"));
+        }
+        if (isBlank(user.getEmail())) {
+            return Mono.error(new UserValidationException("email", "email is required"));
+        }
+        if (isBlank(user.getPassword())) {
+            return Mono.error(new UserValidationException("password", "password is required"));
+        }
+        if (user.getBaseSalary() == null) {
+            return Mono.error(new UserValidationException("baseSalary", "baseSalary is required"));
+        }
+        if (!user.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+            return Mono.error(new UserValidationException("email", "email format is invalid"));
+        }
+        return Mono.empty();
+    }
+
+    private static Mono<Void> legacyAge(User user) {
+        if (user.getBirthdayDate() != null) {
+            int age = Period.between(user.getBirthdayDate(), LocalDate.now()).getYears();
+            if (age < 18) {
+                return Mono.error(new InvalidAgeException(age));
+            }
+        }
+        return Mono.empty();
+    }
+
+    private static Mono<Void> legacySalary(BigDecimal salary) {
+        if (salary == null) {
+            return Mono.empty();
+        }
+        if (salary.compareTo(BigDecimal.ZERO) < 0) {
+            return Mono.error(InvalidSalaryException.tooLow(salary));
+        }
+        if (salary.compareTo(MAX_SALARY) > 0) {
+            return Mono.error(InvalidSalaryException.tooHigh(salary));
+        }
+        return Mono.empty();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
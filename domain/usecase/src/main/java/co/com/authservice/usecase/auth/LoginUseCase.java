@@ -10,10 +10,14 @@ public class LoginUseCase {
     
     private final UserRepository userRepository;
 
-    public Mono<User> validateUserCredentials(String email, String password) {
+    /**
+     * Looks up the account a login names after checking its inputs. Completes empty for
+     * an unknown email instead of failing, so the caller can spend the same work on an
+     * unknown account as on a wrong password before rejecting.
+     */
+    public Mono<User> findLoginCandidate(String email, String password) {
         return validateLoginInputs(email, password)
-                .then(userRepository.findByEmail(email)
-                        .switchIfEmpty(Mono.error(new IllegalArgumentException("Invalid credentials"))));
+                .then(Mono.defer(() -> userRepository.findByEmail(email)));
     }
 
     public Mono<User> validateUserCredentials(String email) {
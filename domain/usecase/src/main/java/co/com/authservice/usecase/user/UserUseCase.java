@@ -1,9 +1,14 @@
 package co.com.authservice.usecase.user;
 
+import co.com.authservice.model.audit.AuditEvent;
+import co.com.authservice.model.audit.AuditEventType;
+import co.com.authservice.model.audit.gateways.AuditEventRepository;
 import co.com.authservice.model.role.gateways.RoleRepository;
 import co.com.authservice.model.user.User;
+import co.com.authservice.model.user.exceptions.BusinessException;
 import co.com.authservice.model.user.exceptions.user.*;
 import co.com.authservice.model.user.gateways.UserRepository;
+import co.com.authservice.usecase.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -11,14 +16,29 @@ import reactor.core.publisher.Mono;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.List;
+import java.util.regex.Pattern;
 
 @RequiredArgsConstructor
 public class UserUseCase {
     private static final BigDecimal MIN_SALARY = BigDecimal.ZERO;
     private static final BigDecimal MAX_SALARY = new BigDecimal("15000000");
+    private static final int MIN_AGE = 18;
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+    private static final Validator<User> USER_FIELDS = Validator.<User>builder()
+            .required("name", User::getName)
+            .required("lastname", User::getLastname)
+            .required("email", User::getEmail)
+            .matches("email", User::getEmail, EMAIL, "email format is invalid")
+            .required("password", User::getPassword)
+            .notNull("baseSalary", User::getBaseSalary)
+            .required("documentNumber", User::getDocumentNumber)
+            .build();
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
+    private final AuditEventRepository auditEventRepository;
 
     public Flux<User> getAll() {
         return userRepository.getAll();
@@ -39,70 +59,58 @@ public class UserUseCase {
     }
 
     public Mono<User> saveUser(User user) {
-        return validateUserBusinessRules(user)
+        return Mono.<Void>fromRunnable(() -> validateUserBusinessRules(user))
                 .then(validateIfEmailAlreadyInUse(user.getEmail()))
                 .then(validateIfDocumentNumberAlreadyInUse(user.getDocumentNumber()))
                 .then(assignDefaultRoleIfNeeded(user))
-                .flatMap(userRepository::saveUser);
+                .flatMap(userRepository::saveUser)
+                .doOnNext(this::auditCreation);
     }
 
     public Mono<User> saveUserWithRole(User user, Long roleId) {
-        return validateUserBusinessRules(user)
+        return Mono.<Void>fromRunnable(() -> validateUserBusinessRules(user))
                 .then(validateIfEmailAlreadyInUse(user.getEmail()))
                 .then(validateIfDocumentNumberAlreadyInUse(user.getDocumentNumber()))
                 .then(assignRoleById(user, roleId))
-                .flatMap(userRepository::saveUser);
+                .flatMap(userRepository::saveUser)
+                .doOnNext(this::auditCreation);
     }
 
-    private Mono<Void> validateUserBusinessRules(User user) {
-        return validateFields(user)
-                .then(validateAge(user))
-                .then(validateSalary(user.getBaseSalary()));
+    private void auditCreation(User saved) {
+        auditEventRepository.record(AuditEvent.of(AuditEventType.USER_CREATED, saved.getId()));
     }
 
-    private Mono<Void> validateFields(User user) {
-        if (isBlank(user.getName())) {
-            return Mono.error(new UserValidationException("name", "name is required"));
+    private void validateUserBusinessRules(User user) {
+        BusinessException violation = findViolation(user);
+        if (violation != null) {
+            throw violation;
         }
-        if (isBlank(user.getLastname())) {
-            return Mono.error(new UserValidationException("lastname", "lastname is required"));
-        }
-        if (isBlank(user.getEmail())) {
-            return Mono.error(new UserValidationException("email", "email is required"));
-        }
-        if (isBlank(user.getPassword())) {
-            return Mono.error(new UserValidationException("password", "password is required"));
-        }
-        if (user.getBaseSalary() == null) {
-            return Mono.error(new UserValidationException("baseSalary", "baseSalary is required"));
-        }
-
-        String regex = "^[A-Za-z0-9+_.-]+@(.+)$";
-        if (!user.getEmail().matches(regex)) {
-            return Mono.error(new UserValidationException("email", "email format is invalid"));
-        }
-
-        return Mono.empty();
     }
 
-    private Mono<Void> validateAge(User user) {
-        if (user.getBirthdayDate() != null) {
-            int age = Period.between(user.getBirthdayDate(), LocalDate.now()).getYears();
-            if (age < 18) {
-                return Mono.error(new InvalidAgeException(age));
-            }
+    /**
+     * Synchronous business-rule check. Field errors are reported together in one
+     * {@link UserValidationException}; age and salary are only checked on otherwise
+     * valid input.
+     *
+     * @return the first rule violated, or {@code null} when the user is valid
+     */
+    static BusinessException findViolation(User user) {
+        List<FieldError> errors = USER_FIELDS.validate(user);
+        if (!errors.isEmpty()) {
+            return new UserValidationException(errors);
         }
-        return Mono.empty();
-    }
-
-    private Mono<Void> validateSalary(BigDecimal salary) {
+        LocalDate birthday = user.getBirthdayDate();
+        if (birthday != null && birthday.isAfter(LocalDate.now().minusYears(MIN_AGE))) {
+            return new InvalidAgeException(Period.between(birthday, LocalDate.now()).getYears());
+        }
+        BigDecimal salary = user.getBaseSalary();
         if (salary.compareTo(MIN_SALARY) < 0) {
-            return Mono.error(InvalidSalaryException.tooLow(salary));
+            return InvalidSalaryException.tooLow(salary);
         }
         if (salary.compareTo(MAX_SALARY) > 0) {
-            return Mono.error(InvalidSalaryException.tooHigh(salary));
+            return InvalidSalaryException.tooHigh(salary);
         }
-        return Mono.empty();
+        return null;
     }
 
     private Mono<Void> validateIfEmailAlreadyInUse(String email) {
@@ -114,9 +122,6 @@ public class UserUseCase {
     }
 
     private Mono<Void> validateIfDocumentNumberAlreadyInUse(String documentNumber) {
-        if (isBlank(documentNumber)) {
-            return Mono.error(new UserValidationException("documentNumber", "documentNumber is required"));
-        }
         return userRepository.existByDocumentNumber(documentNumber)
                 .flatMap(exists -> exists
                         ? Mono.error(new UserValidationException("documentNumber", "documentNumber already exists"))
@@ -144,8 +149,4 @@ public class UserUseCase {
                 .doOnNext(user::setRole)
                 .thenReturn(user);
     }
-
-    private boolean isBlank(String value) {
-        return value == null || value.isBlank();
-    }
 }
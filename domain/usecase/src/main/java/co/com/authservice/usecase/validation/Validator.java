@@ -0,0 +1,100 @@
+package co.com.authservice.usecase.validation;
+
+import co.com.authservice.model.user.exceptions.user.FieldError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Synchronous field validation built once from precompiled rules.
+ *
+ * <p>Every rule is evaluated, so all the invalid fields are reported together instead of
+ * only the first one. Patterns are compiled and {@link FieldError}s created when the
+ * validator is built; a valid target allocates nothing, and an invalid one only the list
+ * that collects its errors. Callers wrap the outcome in a {@code Mono} at the edge, if
+ * at all.</p>
+ *
+ * @param <T> the validated type
+ */
+public final class Validator<T> {
+
+    private final Rule<T>[] rules;
+
+    private Validator(List<Rule<T>> rules) {
+        @SuppressWarnings("unchecked")
+        Rule<T>[] array = rules.toArray(new Rule[0]);
+        this.rules = array;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return the errors in rule order, or an empty list when {@code target} is valid
+     */
+    public List<FieldError> validate(T target) {
+        List<FieldError> errors = null;
+        for (Rule<T> rule : rules) {
+            if (!rule.check().test(target)) {
+                if (errors == null) {
+                    errors = new ArrayList<>(rules.length);
+                }
+                errors.add(rule.error());
+            }
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    private record Rule<T>(Predicate<T> check, FieldError error) {
+    }
+
+    public static final class Builder<T> {
+
+        private final List<Rule<T>> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * The value must be present and not blank; reported as "{@code <field> is required}".
+         */
+        public Builder<T> required(String field, Function<T, String> value) {
+            return rule(field, target -> !isBlank(value.apply(target)), field + " is required");
+        }
+
+        /**
+         * The value must be present; reported as "{@code <field> is required}".
+         */
+        public Builder<T> notNull(String field, Function<T, ?> value) {
+            return rule(field, target -> value.apply(target) != null, field + " is required");
+        }
+
+        /**
+         * A present, non-blank value must match {@code pattern}. Missing values pass, so
+         * pair it with {@link #required} to avoid reporting the same field twice.
+         */
+        public Builder<T> matches(String field, Function<T, String> value, Pattern pattern, String reason) {
+            return rule(field, target -> {
+                String actual = value.apply(target);
+                return isBlank(actual) || pattern.matcher(actual).matches();
+            }, reason);
+        }
+
+        public Builder<T> rule(String field, Predicate<T> check, String reason) {
+            rules.add(new Rule<>(check, new FieldError(field, reason)));
+            return this;
+        }
+
+        public Validator<T> build() {
+            return new Validator<>(rules);
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+    }
+}
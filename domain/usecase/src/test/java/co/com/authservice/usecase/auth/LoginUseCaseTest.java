@@ -0,0 +1,53 @@
+package co.com.authservice.usecase.auth;
+
+import co.com.authservice.model.user.User;
+import co.com.authservice.model.user.gateways.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginUseCase - Credential Lookup Tests")
+class LoginUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private LoginUseCase loginUseCase;
+
+    @Test
+    @DisplayName("Should complete empty for an unknown email")
+    void shouldCompleteEmptyForUnknownEmail() {
+        when(userRepository.findByEmail("ghost@mail.com")).thenReturn(Mono.empty());
+
+        StepVerifier.create(loginUseCase.findLoginCandidate("ghost@mail.com", "secret")).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return the account for a known email")
+    void shouldReturnKnownAccount() {
+        User user = User.builder().id(1L).email("user@mail.com").build();
+        when(userRepository.findByEmail("user@mail.com")).thenReturn(Mono.just(user));
+
+        StepVerifier.create(loginUseCase.findLoginCandidate("user@mail.com", "secret")).expectNext(user).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject blank input without a lookup")
+    void shouldRejectBlankInput() {
+        StepVerifier.create(loginUseCase.findLoginCandidate("user@mail.com", " "))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -1,9 +1,12 @@
 package co.com.authservice.usecase.user;
 
+import co.com.authservice.model.audit.AuditEventType;
+import co.com.authservice.model.audit.gateways.AuditEventRepository;
 import co.com.authservice.model.role.Role;
 import co.com.authservice.model.role.gateways.RoleRepository;
 import co.com.authservice.model.user.User;
 import co.com.authservice.model.user.exceptions.user.EmailAlreadyExistsException;
+import co.com.authservice.model.user.exceptions.user.FieldError;
 import co.com.authservice.model.user.exceptions.user.InvalidAgeException;
 import co.com.authservice.model.user.exceptions.user.InvalidSalaryException;
 import co.com.authservice.model.user.exceptions.user.UserValidationException;
@@ -24,8 +27,14 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +47,9 @@ class UserUseCaseTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private AuditEventRepository auditEventRepository;
+
     @InjectMocks
     private UserUseCase userUseCase;
 
@@ -50,6 +62,8 @@ class UserUseCaseTest {
                 .name("Juan")
                 .lastname("Pérez")
                 .email("juan.perez@email.com")
+                .password("secret-password")
+                .documentNumber("1234567890")
                 .birthdayDate(LocalDate.of(1990, 5, 15)) // 33 años
                 .baseSalary(new BigDecimal("5000000"))
                 .address("Calle 123")
@@ -61,6 +75,8 @@ class UserUseCaseTest {
                 .name("CLIENT")
                 .description("Default client role")
                 .build();
+
+        lenient().when(userRepository.existByDocumentNumber(anyString())).thenReturn(Mono.just(false));
     }
 
     @Nested
@@ -82,6 +98,9 @@ class UserUseCaseTest {
                             savedUser.getRole().getName().equals("CLIENT")
                     )
                     .verifyComplete();
+
+            verify(auditEventRepository).record(argThat(event ->
+                    event.type() == AuditEventType.USER_CREATED && event.userId().equals(1L)));
         }
 
         @Test
@@ -110,7 +129,7 @@ class UserUseCaseTest {
         void shouldThrowExceptionWhenNameIsNull() {
             User userWithNullName = validUser.toBuilder().name(null).build();
 
-            org.junit.jupiter.api.Assertions.assertThrows(
+            assertThrows(
                     UserValidationException.class,
                     () -> {
                         try {
@@ -133,7 +152,7 @@ class UserUseCaseTest {
         void shouldThrowExceptionWhenNameIsBlank() {
             User userWithBlankName = validUser.toBuilder().name("   ").build();
 
-            org.junit.jupiter.api.Assertions.assertThrows(
+            assertThrows(
                     UserValidationException.class,
                     () -> {
                         try {
@@ -155,7 +174,7 @@ class UserUseCaseTest {
         void shouldThrowExceptionWhenEmailFormatIsInvalid() {
             User userWithInvalidEmail = validUser.toBuilder().email("invalid-email").build();
 
-            org.junit.jupiter.api.Assertions.assertThrows(
+            assertThrows(
                     UserValidationException.class,
                     () -> {
                         try {
@@ -172,12 +191,33 @@ class UserUseCaseTest {
             );
         }
 
+        @Test
+        @DisplayName("Should report every invalid field in a single UserValidationException")
+        void shouldAccumulateAllFieldErrors() {
+            User invalidUser = validUser.toBuilder().name(" ").email("invalid-email").password(null).build();
+            lenient().when(userRepository.existByEmail(anyString())).thenReturn(Mono.just(false));
+            lenient().when(roleRepository.findByName("CLIENT")).thenReturn(Mono.just(defaultRole));
+
+            StepVerifier.create(userUseCase.saveUser(invalidUser))
+                    .expectErrorSatisfies(error -> {
+                        UserValidationException exception = assertInstanceOf(UserValidationException.class, error);
+                        assertEquals(List.of(new FieldError("name", "name is required"),
+                                        new FieldError("email", "email format is invalid"),
+                                        new FieldError("password", "password is required")),
+                                exception.getErrors());
+                        assertEquals("Invalid name: name is required; "
+                                + "Invalid email: email format is invalid; Invalid password: password is required",
+                                exception.getMessage());
+                    })
+                    .verify();
+        }
+
         @Test
         @DisplayName("Should throw UserValidationException when baseSalary is null")
         void shouldThrowExceptionWhenBaseSalaryIsNull() {
             User userWithNullSalary = validUser.toBuilder().baseSalary(null).build();
 
-            org.junit.jupiter.api.Assertions.assertThrows(
+            assertThrows(
                     UserValidationException.class,
                     () -> {
                         try {
@@ -205,7 +245,7 @@ class UserUseCaseTest {
             LocalDate under18Date = LocalDate.now().minusYears(17); // 17 años
             User underageUser = validUser.toBuilder().birthdayDate(under18Date).build();
 
-            org.junit.jupiter.api.Assertions.assertThrows(
+            assertThrows(
                     InvalidAgeException.class,
                     () -> {
                         try {
@@ -249,7 +289,7 @@ class UserUseCaseTest {
                     .baseSalary(new BigDecimal("-1000"))
                     .build();
 
-            org.junit.jupiter.api.Assertions.assertThrows(
+            assertThrows(
                     InvalidSalaryException.class,
                     () -> {
                         try {
@@ -273,7 +313,7 @@ class UserUseCaseTest {
                     .baseSalary(new BigDecimal("15000001")) // Excede el máximo
                     .build();
 
-            org.junit.jupiter.api.Assertions.assertThrows(
+            assertThrows(
                     InvalidSalaryException.class,
                     () -> {
                         try {
@@ -0,0 +1,56 @@
+package co.com.authservice.usecase.validation;
+
+import co.com.authservice.model.user.User;
+import co.com.authservice.model.user.exceptions.user.FieldError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ValidatorTest {
+
+    private static final Validator<User> VALIDATOR = Validator.<User>builder()
+            .required("name", User::getName)
+            .required("email", User::getEmail)
+            .matches("email", User::getEmail, Pattern.compile("^[^@]+@[^@]+$"), "email format is invalid")
+            .notNull("baseSalary", User::getBaseSalary)
+            .rule("baseSalary", user -> user.getBaseSalary() == null || user.getBaseSalary().signum() >= 0,
+                    "baseSalary must not be negative")
+            .build();
+
+    @Test
+    @DisplayName("Should return the shared empty list for a valid target")
+    void shouldReturnEmptyListWhenValid() {
+        User user = User.builder().name("Juan").email("juan@email.com").baseSalary(BigDecimal.TEN).build();
+
+        assertSame(List.of(), VALIDATOR.validate(user));
+    }
+
+    @Test
+    @DisplayName("Should collect every failing rule in declaration order")
+    void shouldCollectAllErrors() {
+        User user = User.builder().name(" ").email("juan-at-email.com").baseSalary(new BigDecimal("-1")).build();
+
+        assertEquals(List.of(
+                new FieldError("name", "name is required"),
+                new FieldError("email", "email format is invalid"),
+                new FieldError("baseSalary", "baseSalary must not be negative")
+        ), VALIDATOR.validate(user));
+    }
+
+    @Test
+    @DisplayName("Should report a missing value as required but not as badly formatted")
+    void shouldNotReportFormatForMissingValue() {
+        User user = User.builder().name("Juan").build();
+
+        assertEquals(List.of(
+                new FieldError("email", "email is required"),
+                new FieldError("baseSalary", "baseSalary is required")
+        ), VALIDATOR.validate(user));
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,10 +28,17 @@ public class JWTTokenServiceImpl {
     }
     
     public String generateToken(User user) {
+        return generateToken(user, null);
+    }
+
+    public String generateToken(User user, Long permissions) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", user.getId());
         claims.put("email", user.getEmail());
         claims.put("role", user.getRole().getName());
+        if (permissions != null) {
+            claims.put("perms", permissions);
+        }
         
         Date now = new Date();
         Date expiration = new Date(now.getTime() + expirationTime * 1000);
@@ -57,6 +65,34 @@ public class JWTTokenServiceImpl {
         }
     }
     
+    /**
+     * Verifies the signature and expiration of the token with a single parse and
+     * returns the claims needed to authenticate the request.
+     *
+     * @throws JwtException if the token is malformed, tampered or expired
+     */
+    public VerifiedToken verify(String token) {
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        try {
+            Claims claims = getClaims(token);
+            Date expiration = claims.getExpiration();
+            event.outcome = "valid";
+            return new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get("userId", Long.class),
+                    claims.get("role", String.class),
+                    claims.get("perms", Long.class),
+                    expiration != null ? expiration.toInstant() : Instant.MAX
+            );
+        } catch (RuntimeException e) {
+            event.outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
     public Long extractUserId(String token) {
         Claims claims = getClaims(token);
         return claims.get("userId", Long.class);
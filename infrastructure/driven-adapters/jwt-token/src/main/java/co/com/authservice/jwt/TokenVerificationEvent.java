@@ -0,0 +1,27 @@
+package co.com.authservice.jwt;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted around {@link JWTTokenServiceImpl#verify(String)}. Disabled by
+ * default; enabled through {@code observability.jfr.enabled} or a custom .jfc file.
+ */
+@Name(TokenVerificationEvent.NAME)
+@Label("Token Verification")
+@Description("Signature and expiration check of a bearer token")
+@Category({"Auth Service", "Security"})
+@Enabled(false)
+@StackTrace(false)
+public class TokenVerificationEvent extends Event {
+
+    public static final String NAME = "co.com.authservice.TokenVerification";
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,12 @@
+package co.com.authservice.jwt;
+
+import java.time.Instant;
+
+public record VerifiedToken(
+        String subject,
+        Long userId,
+        String role,
+        Long permissions,
+        Instant expiresAt
+) {
+}
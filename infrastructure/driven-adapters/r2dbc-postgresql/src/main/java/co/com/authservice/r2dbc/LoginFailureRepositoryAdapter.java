@@ -0,0 +1,56 @@
+package co.com.authservice.r2dbc;
+
+import co.com.authservice.model.lockout.LoginFailure;
+import co.com.authservice.model.lockout.gateways.LoginFailureRepository;
+import co.com.authservice.r2dbc.jfr.RepositoryCallEvent;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Writes failed-login state onto the {@code users} row (see
+ * {@code db/users_login_failures.sql}). All accounts of a call are bound to one
+ * statement, so a batch costs a single round trip.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoginFailureRepositoryAdapter implements LoginFailureRepository {
+
+    static final String UPDATE = "UPDATE users SET failed_login_attempts = $1, locked_until = $2 WHERE id = $3";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> saveAll(List<LoginFailure> failures) {
+        if (failures.isEmpty()) {
+            return Mono.empty();
+        }
+        return RepositoryCallEvent.record("saveLoginFailures", databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(UPDATE);
+            for (int i = 0; i < failures.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                bind(statement, failures.get(i));
+            }
+            return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+        }).then());
+    }
+
+    private static void bind(Statement statement, LoginFailure failure) {
+        statement.bind(0, failure.failedAttempts());
+        if (failure.lockedUntil() != null) {
+            statement.bind(1, failure.lockedUntil());
+        } else {
+            statement.bindNull(1, Instant.class);
+        }
+        statement.bind(2, failure.userId());
+    }
+}
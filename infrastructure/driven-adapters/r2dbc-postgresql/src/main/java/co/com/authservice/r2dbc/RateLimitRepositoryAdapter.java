@@ -0,0 +1,118 @@
+package co.com.authservice.r2dbc;
+
+import co.com.authservice.model.ratelimit.gateways.RateLimitRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * GCRA over the {@code rate_limit_state} table (see {@code db/rate_limit_state.sql}), so
+ * every instance draws from the same limits. A single upsert reads the database clock,
+ * checks the tolerance and advances the TAT atomically; no row comes back when the
+ * attempt is over its limit.
+ *
+ * <p>A row whose TAT has passed describes a full bucket, exactly like a missing row, so
+ * every {@code security.rate-limit.cleanup-interval} those rows are deleted in batches of
+ * {@value #CLEANUP_BATCH}. Rows locked by a concurrent attempt are skipped, and the table
+ * only holds the keys seen within the last limit period.</p>
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "security.rate-limit", name = "shared", havingValue = "true")
+public class RateLimitRepositoryAdapter implements RateLimitRepository, SmartLifecycle {
+
+    static final String ACQUIRE = """
+            WITH clock AS (SELECT (EXTRACT(EPOCH FROM clock_timestamp()) * 1000)::BIGINT AS now_ms)
+            INSERT INTO rate_limit_state AS s (limit_key, tat_ms)
+            SELECT :key, clock.now_ms + :interval FROM clock
+            ON CONFLICT (limit_key) DO UPDATE
+                SET tat_ms = GREATEST(s.tat_ms, (SELECT now_ms FROM clock)) + :interval
+                WHERE GREATEST(s.tat_ms, (SELECT now_ms FROM clock)) - (SELECT now_ms FROM clock) <= :tolerance
+            RETURNING s.tat_ms
+            """;
+
+    static final String DELETE_EXPIRED = """
+            DELETE FROM rate_limit_state
+            WHERE limit_key IN (
+                SELECT limit_key FROM rate_limit_state
+                WHERE tat_ms < (EXTRACT(EPOCH FROM clock_timestamp()) * 1000)::BIGINT
+                LIMIT $1
+                FOR UPDATE SKIP LOCKED)
+            """;
+
+    static final int CLEANUP_BATCH = 1000;
+
+    private final DatabaseClient databaseClient;
+    private final Duration cleanupInterval;
+    private volatile Disposable cleaner;
+
+    public RateLimitRepositoryAdapter(DatabaseClient databaseClient,
+                                      @Value("${security.rate-limit.cleanup-interval:5m}") Duration cleanupInterval) {
+        this.databaseClient = databaseClient;
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    /**
+     * The database only reports a rejection, not its exact wait, so a rejected attempt is
+     * asked to retry after one emission interval.
+     */
+    @Override
+    public Mono<Duration> acquire(String key, Duration emissionInterval, Duration tolerance) {
+        return databaseClient.sql(ACQUIRE)
+                .bind("key", key)
+                .bind("interval", emissionInterval.toMillis())
+                .bind("tolerance", tolerance.toMillis())
+                .map(row -> Duration.ZERO)
+                .first()
+                .defaultIfEmpty(emissionInterval);
+    }
+
+    /**
+     * Deletes expired rows until a batch comes back short.
+     *
+     * @return the number of rows deleted
+     */
+    Mono<Long> deleteExpired() {
+        return Mono.defer(() -> databaseClient.sql(DELETE_EXPIRED).bind(0, CLEANUP_BATCH).fetch().rowsUpdated())
+                .repeat()
+                .takeUntil(deleted -> deleted < CLEANUP_BATCH)
+                .reduce(0L, Long::sum);
+    }
+
+    @Override
+    public void start() {
+        cleaner = Flux.interval(cleanupInterval, cleanupInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> deleteExpired()
+                        .onErrorResume(error -> {
+                            log.atWarn()
+                                    .setMessage("Rate limit state cleanup failed")
+                                    .addKeyValue("exception", error.getClass().getSimpleName())
+                                    .log();
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable disposable = cleaner;
+        if (disposable != null) {
+            disposable.dispose();
+            cleaner = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return cleaner != null;
+    }
+}
@@ -5,6 +5,8 @@ import co.com.authservice.model.user.User;
 import co.com.authservice.model.user.gateways.UserRepository;
 import co.com.authservice.r2dbc.entity.UserEntity;
 import co.com.authservice.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.authservice.r2dbc.jfr.RepositoryCallEvent;
+import co.com.authservice.r2dbc.outbox.OutboxWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
@@ -20,39 +22,43 @@ public class UserReactiveRepositoryAdapter
 
     private final RoleReactiveRepository roleRepository;
     private final TransactionalOperator transactionalOperator;
+    private final OutboxWriter outboxWriter;
 
     public UserReactiveRepositoryAdapter(UserReactiveRepository repository, 
                                         RoleReactiveRepository roleRepository, 
                                         ObjectMapper mapper,
-                                        TransactionalOperator transactionalOperator) {
+                                        TransactionalOperator transactionalOperator,
+                                        OutboxWriter outboxWriter) {
         super(repository, mapper, d -> mapper.map(d, User.class));
         this.roleRepository = roleRepository;
         this.transactionalOperator = transactionalOperator;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
     public Mono<User> getByDocumentNumber(String documentNumber) {
-        return repository.getByDocumentNumber(documentNumber)
-                .flatMap(this::mapToUserWithRole);
+        return RepositoryCallEvent.record("getByDocumentNumber", repository.getByDocumentNumber(documentNumber)
+                .flatMap(this::mapToUserWithRole));
     }
 
     @Override
     public Mono<Boolean> existByDocumentNumber(String documentNumber) {
-        return repository.existsByDocumentNumber(documentNumber);
+        return RepositoryCallEvent.record("existByDocumentNumber", repository.existsByDocumentNumber(documentNumber));
     }
 
     @Override
     public Flux<User> getAll() {
-        return repository.findAll()
-                .flatMap(this::mapToUserWithRole);
+        return RepositoryCallEvent.record("getAll", repository.findAll()
+                .flatMap(this::mapToUserWithRole));
     }
 
     @Override
     public Mono<User> saveUser(User user) {
-        return saveUserInternal(user)
+        return RepositoryCallEvent.record("saveUser", saveUserInternal(user)
                 .doOnNext(u -> log.debug("✅ [PERSISTENCE] User saved in transaction"))
                 .doOnError(error -> log.error("❌ [PERSISTENCE] Transaction failed: {}", error.getMessage()))
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnNext(saved -> outboxWriter.committed()));
     }
     
     private Mono<User> saveUserInternal(User user) {
@@ -63,24 +69,25 @@ public class UserReactiveRepositoryAdapter
         }
         return repository.save(userEntity)
                 .doOnNext(entity -> log.debug("💾 [PERSISTENCE] Entity saved with ID: {}", entity.getId()))
-                .flatMap(this::mapToUserWithRole);
+                .flatMap(this::mapToUserWithRole)
+                .flatMap(saved -> outboxWriter.userCreated(saved).thenReturn(saved));
     }
 
     @Override
     public Mono<Boolean> existByEmail(String email) {
-        return repository.existsByEmail(email);
+        return RepositoryCallEvent.record("existByEmail", repository.existsByEmail(email));
     }
     
     @Override
     public Mono<User> findByEmail(String email) {
-        return repository.findByEmail(email)
-                .flatMap(this::mapToUserWithRole);
+        return RepositoryCallEvent.record("findByEmail", repository.findByEmail(email)
+                .flatMap(this::mapToUserWithRole));
     }
     
     @Override
     public Mono<User> findById(Long id) {
-        return repository.findById(id)
-                .flatMap(this::mapToUserWithRole);
+        return RepositoryCallEvent.record("findById", repository.findById(id)
+                .flatMap(this::mapToUserWithRole));
     }
 
     private Mono<User> mapToUserWithRole(UserEntity entity) {
@@ -0,0 +1,259 @@
+package co.com.authservice.r2dbc.audit;
+
+import co.com.authservice.model.audit.AuditEvent;
+import co.com.authservice.model.audit.AuditEventType;
+import co.com.authservice.model.audit.gateways.AuditEventRepository;
+import co.com.authservice.r2dbc.jfr.RepositoryCallEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind storage for audit events (see {@code db/audit_event.sql}).
+ *
+ * <p>{@link #record} only appends to a bounded lock-free queue, so callers never wait
+ * for the database. The queue is written in batches of up to
+ * {@code adapters.r2dbc.audit.batch-size} events, whenever that many are waiting or
+ * every {@code flush-interval}, one flush at a time. The same flush moves
+ * {@code users.last_login_at} forward for the successful logins of the batch.</p>
+ *
+ * <p>Each batch is bound as one array per column and expanded with {@code unnest}, so
+ * the insert and the update are two fixed statements whatever the batch holds. They are
+ * prepared once per connection and keep a single entry each in the statement metrics.</p>
+ *
+ * <p>When the queue is full new events are dropped rather than slowing logins down.
+ * Events are counted in {@value #EVENTS_METRIC} by {@code outcome} (written, dropped,
+ * failed), and {@value #QUEUE_METRIC} reports the backlog. On shutdown, after the web
+ * server has stopped taking requests, no new flush is triggered; the flush in progress
+ * is allowed to finish, since its batch has already left the queue, and one last flush
+ * drains the rest, all within {@code drain-timeout}.</p>
+ */
+@Slf4j
+@Repository
+public class AuditEventRepositoryAdapter implements AuditEventRepository, SmartLifecycle {
+
+    static final String EVENTS_METRIC = "authservice.audit.events";
+    static final String QUEUE_METRIC = "authservice.audit.queue";
+
+    /**
+     * Stops after the web server (and its graceful shutdown), so in-flight requests
+     * can still record their events.
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    static final String INSERT = """
+            INSERT INTO audit_event (event_type, user_id, occurred_at)
+            SELECT * FROM unnest($1::text[], $2::bigint[], $3::timestamptz[])
+            """;
+
+    static final String UPDATE_LAST_LOGIN = """
+            UPDATE users AS u SET last_login_at = v.at
+            FROM unnest($1::bigint[], $2::timestamptz[]) AS v(id, at)
+            WHERE u.id = v.id AND (u.last_login_at IS NULL OR u.last_login_at < v.at)
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final AuditProperties properties;
+    private final Queue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Sinks.Many<Boolean> batchReady = Sinks.many().multicast().directBestEffort();
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private volatile Sinks.Empty<Void> shutdown;
+    private volatile CompletableFuture<Void> flusher;
+
+    @Autowired
+    public AuditEventRepositoryAdapter(DatabaseClient databaseClient, AuditProperties properties,
+                                       ObjectProvider<MeterRegistry> registry) {
+        this(databaseClient, properties, registry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    AuditEventRepositoryAdapter(DatabaseClient databaseClient, AuditProperties properties, MeterRegistry registry) {
+        this.databaseClient = databaseClient;
+        this.properties = properties;
+        this.written = Counter.builder(EVENTS_METRIC).tag("outcome", "written").register(registry);
+        this.dropped = Counter.builder(EVENTS_METRIC).tag("outcome", "dropped").register(registry);
+        this.failed = Counter.builder(EVENTS_METRIC).tag("outcome", "failed").register(registry);
+        Gauge.builder(QUEUE_METRIC, queued, AtomicInteger::get).register(registry);
+    }
+
+    @Override
+    public void record(AuditEvent event) {
+        int size = queued.incrementAndGet();
+        if (size > properties.capacity()) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.offer(event);
+        if (size == properties.batchSize()) {
+            batchReady.tryEmitNext(Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Writes everything queued when called, one batch at a time. A batch the database
+     * rejects is counted as failed and not retried, so a database outage cannot grow
+     * the backlog beyond the queue.
+     */
+    Mono<Void> flush() {
+        return Flux.<List<AuditEvent>>generate(sink -> {
+                    List<AuditEvent> batch = poll();
+                    if (batch.isEmpty()) {
+                        sink.complete();
+                    } else {
+                        sink.next(batch);
+                    }
+                })
+                .concatMap(this::write, 1)
+                .then();
+    }
+
+    private List<AuditEvent> poll() {
+        List<AuditEvent> batch = new ArrayList<>(Math.min(queued.get(), properties.batchSize()));
+        AuditEvent event;
+        while (batch.size() < properties.batchSize() && (event = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(event);
+        }
+        return batch;
+    }
+
+    private Mono<Void> write(List<AuditEvent> batch) {
+        return RepositoryCallEvent.record("saveAuditEvents", insert(batch).then(updateLastLogin(batch)).then())
+                .doOnSuccess(done -> written.increment(batch.size()))
+                .onErrorResume(error -> {
+                    failed.increment(batch.size());
+                    log.atWarn()
+                            .setMessage("Audit events not written")
+                            .addKeyValue("events", batch.size())
+                            .addKeyValue("exception", error.getClass().getSimpleName())
+                            .log();
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Long> insert(List<AuditEvent> batch) {
+        String[] types = new String[batch.size()];
+        Long[] userIds = new Long[batch.size()];
+        Instant[] occurredAt = new Instant[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            AuditEvent event = batch.get(i);
+            types[i] = event.type().name();
+            userIds[i] = event.userId();
+            occurredAt[i] = event.occurredAt();
+        }
+        return databaseClient.sql(INSERT)
+                .bind(0, types)
+                .bind(1, userIds)
+                .bind(2, occurredAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * One update for the batch, with the latest successful login of each user.
+     */
+    private Mono<Long> updateLastLogin(List<AuditEvent> batch) {
+        Map<Long, Instant> lastLogins = new HashMap<>();
+        for (AuditEvent event : batch) {
+            if (event.type() == AuditEventType.LOGIN_SUCCEEDED && event.userId() != null) {
+                lastLogins.merge(event.userId(), event.occurredAt(), (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
+        if (lastLogins.isEmpty()) {
+            return Mono.empty();
+        }
+        Long[] userIds = new Long[lastLogins.size()];
+        Instant[] loggedInAt = new Instant[lastLogins.size()];
+        int index = 0;
+        for (Map.Entry<Long, Instant> lastLogin : lastLogins.entrySet()) {
+            userIds[index] = lastLogin.getKey();
+            loggedInAt[index++] = lastLogin.getValue();
+        }
+        return databaseClient.sql(UPDATE_LAST_LOGIN)
+                .bind(0, userIds)
+                .bind(1, loggedInAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public void start() {
+        Sinks.Empty<Void> stopSignal = Sinks.empty();
+        shutdown = stopSignal;
+        flusher = Flux.merge(Flux.interval(properties.flushInterval(), properties.flushInterval()).map(tick -> true),
+                        batchReady.asFlux())
+                .takeUntilOther(stopSignal.asMono())
+                .onBackpressureDrop()
+                .concatMap(trigger -> flush(), 1)
+                .then(Mono.defer(this::flush))
+                .toFuture();
+    }
+
+    /**
+     * Ends the flush triggers and waits for the flush in progress and a final drain,
+     * instead of cancelling a write whose batch has already been taken off the queue.
+     */
+    @Override
+    public void stop() {
+        CompletableFuture<Void> running = flusher;
+        if (running == null) {
+            return;
+        }
+        shutdown.tryEmitEmpty();
+        try {
+            running.get(properties.drainTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            warnNotDrained(e);
+        } catch (ExecutionException | TimeoutException e) {
+            running.cancel(true);
+            warnNotDrained(e);
+        } finally {
+            flusher = null;
+        }
+    }
+
+    private void warnNotDrained(Exception e) {
+        log.atWarn()
+                .setMessage("Audit events not drained on shutdown")
+                .addKeyValue("pending", queued.get())
+                .addKeyValue("exception", e.getClass().getSimpleName())
+                .log();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
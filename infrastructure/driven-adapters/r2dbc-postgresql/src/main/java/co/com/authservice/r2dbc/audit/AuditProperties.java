@@ -0,0 +1,36 @@
+package co.com.authservice.r2dbc.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Buffering of audit events before they are written.
+ *
+ * @param capacity      events buffered before new ones are dropped
+ * @param batchSize     events per insert; reaching it also triggers a flush
+ * @param flushInterval longest time an event waits in the buffer
+ * @param drainTimeout  time allowed to write the buffer on shutdown
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.audit")
+public record AuditProperties(
+        Integer capacity,
+        Integer batchSize,
+        Duration flushInterval,
+        Duration drainTimeout) {
+
+    public AuditProperties {
+        if (capacity == null || capacity < 1) {
+            capacity = 10_000;
+        }
+        if (batchSize == null || batchSize < 1) {
+            batchSize = 500;
+        }
+        if (flushInterval == null) {
+            flushInterval = Duration.ofSeconds(1);
+        }
+        if (drainTimeout == null) {
+            drainTimeout = Duration.ofSeconds(10);
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package co.com.authservice.r2dbc.config;
 
+import io.micrometer.observation.ObservationRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.proxy.observation.ObservationProxyExecutionListener;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class PostgreSQLConnectionPool {
@@ -18,7 +26,22 @@ public class PostgreSQLConnectionPool {
     public static final int DEFAULT_PORT = 5432;
 
 	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
+	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties,
+                                              ObjectProvider<ProxyExecutionListener> listeners,
+                                              ObjectProvider<ObservationRegistry> observationRegistry) {
+		return createPool(properties, listeners.orderedStream().toList(),
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+	}
+
+    /**
+     * The pool without statement listeners or observation, as the tests build it.
+     */
+	ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
+		return createPool(properties, List.of(), ObservationRegistry.NOOP);
+	}
+
+	private ConnectionPool createPool(PostgresqlConnectionProperties properties, List<ProxyExecutionListener> listeners,
+                                      ObservationRegistry observationRegistry) {
 		
 		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
@@ -29,8 +52,10 @@ public class PostgreSQLConnectionPool {
                 .password(properties.password())
                 .build();
 
+        ConnectionFactory connectionFactory = new PostgresqlConnectionFactory(dbConfiguration);
         ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
+                .connectionFactory(withListeners(connectionFactory,
+                        withObservation(listeners, observationRegistry, connectionFactory, properties)))
                 .name("api-postgres-connection-pool")
                 .initialSize(INITIAL_SIZE)
                 .maxSize(MAX_SIZE)
@@ -40,4 +65,39 @@ public class PostgreSQLConnectionPool {
 
 		return new ConnectionPool(poolConfiguration);
 	}
-}
\ No newline at end of file
+
+    /**
+     * Adds a span per statement, parented to the observation restored from the Reactor
+     * context. Bind values are never attached to the span. The listener parses the
+     * remote address it reports from an R2DBC URL, which carries no credentials here.
+     */
+    private static List<ProxyExecutionListener> withObservation(List<ProxyExecutionListener> listeners,
+                                                                ObservationRegistry observationRegistry,
+                                                                ConnectionFactory connectionFactory,
+                                                                PostgresqlConnectionProperties properties) {
+        if (observationRegistry.isNoop()) {
+            return listeners;
+        }
+        List<ProxyExecutionListener> all = new ArrayList<>(listeners);
+        ObservationProxyExecutionListener observationListener = new ObservationProxyExecutionListener(
+                observationRegistry, connectionFactory,
+                "r2dbc:postgresql://" + properties.host() + ":" + properties.port() + "/" + properties.database());
+        observationListener.setIncludeParameterValues(false);
+        all.add(observationListener);
+        return all;
+    }
+
+    /**
+     * Wraps the driver factory in an R2DBC proxy so statement executions inside pooled
+     * connections are visible to the listeners; the pool itself stays the outer bean.
+     */
+    private static ConnectionFactory withListeners(ConnectionFactory connectionFactory,
+                                                   List<ProxyExecutionListener> listeners) {
+        if (listeners.isEmpty()) {
+            return connectionFactory;
+        }
+        ProxyConnectionFactory.Builder builder = ProxyConnectionFactory.builder(connectionFactory);
+        listeners.forEach(builder::listener);
+        return builder.build();
+    }
+}
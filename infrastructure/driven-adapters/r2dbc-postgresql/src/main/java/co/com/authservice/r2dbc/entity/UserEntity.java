@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Table("users")
@@ -39,4 +40,9 @@ public class UserEntity {
 
     @Column("role_id")
     private Long roleId;
+
+    @Column("failed_login_attempts")
+    private Integer failedLoginAttempts;
+    @Column("locked_until")
+    private Instant lockedUntil;
 }
@@ -0,0 +1,75 @@
+package co.com.authservice.r2dbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * JFR event spanning a repository call from subscription to its terminal signal.
+ * Disabled by default; when disabled the source publisher is returned untouched.
+ */
+@Name(RepositoryCallEvent.NAME)
+@Label("Repository Call")
+@Description("Reactive repository operation including role resolution")
+@Category({"Auth Service", "Persistence"})
+@Enabled(false)
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    public static final String NAME = "co.com.authservice.RepositoryCall";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Rows")
+    long rows;
+
+    public static <T> Mono<T> record(String operation, Mono<T> source) {
+        if (!new RepositoryCallEvent().isEnabled()) {
+            return source;
+        }
+        return Mono.defer(() -> {
+            RepositoryCallEvent event = start(operation);
+            return source
+                    .doOnNext(value -> event.rows++)
+                    .doOnError(error -> event.outcome = error.getClass().getSimpleName())
+                    .doFinally(signal -> event.end(signal.toString()));
+        });
+    }
+
+    public static <T> Flux<T> record(String operation, Flux<T> source) {
+        if (!new RepositoryCallEvent().isEnabled()) {
+            return source;
+        }
+        return Flux.defer(() -> {
+            RepositoryCallEvent event = start(operation);
+            return source
+                    .doOnNext(value -> event.rows++)
+                    .doOnError(error -> event.outcome = error.getClass().getSimpleName())
+                    .doFinally(signal -> event.end(signal.toString()));
+        });
+    }
+
+    private static RepositoryCallEvent start(String operation) {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    private void end(String signal) {
+        if (outcome == null) {
+            outcome = signal;
+        }
+        commit();
+    }
+}
@@ -0,0 +1,36 @@
+package co.com.authservice.r2dbc.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/sqlstats}: statements ranked by accumulated execution time.
+ * Accepts an optional {@code limit}; a DELETE resets the counters.
+ */
+@Component
+@ConditionalOnProperty(prefix = "adapters.r2dbc.monitoring", name = "enabled", matchIfMissing = true)
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+    private final StatementStatsListener listener;
+
+    public SqlStatsEndpoint(StatementStatsListener listener) {
+        this.listener = listener;
+    }
+
+    @ReadOperation
+    public List<StatementStats> topStatements(@Nullable Integer limit) {
+        return limit == null ? listener.topByTotalTime() : listener.topByTotalTime(limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        listener.reset();
+    }
+}
@@ -0,0 +1,28 @@
+package co.com.authservice.r2dbc.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.monitoring")
+public record StatementMonitoringProperties(
+        Boolean enabled,
+        Duration slowQueryThreshold,
+        Integer maxStatements,
+        Integer topStatements) {
+
+    public StatementMonitoringProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (slowQueryThreshold == null) {
+            slowQueryThreshold = Duration.ofMillis(200);
+        }
+        if (maxStatements == null) {
+            maxStatements = 256;
+        }
+        if (topStatements == null) {
+            topStatements = 10;
+        }
+    }
+}
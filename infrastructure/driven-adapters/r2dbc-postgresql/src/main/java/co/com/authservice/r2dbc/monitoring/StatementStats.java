@@ -0,0 +1,16 @@
+package co.com.authservice.r2dbc.monitoring;
+
+/**
+ * Snapshot of the accumulated execution statistics of one SQL statement.
+ */
+public record StatementStats(
+        String id,
+        String operation,
+        String sql,
+        long calls,
+        long errors,
+        long rows,
+        double totalMillis,
+        double meanMillis,
+        double maxMillis) {
+}
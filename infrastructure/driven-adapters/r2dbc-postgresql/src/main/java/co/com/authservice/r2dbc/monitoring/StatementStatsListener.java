@@ -0,0 +1,245 @@
+package co.com.authservice.r2dbc.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement execution statistics collected from the R2DBC proxy wrapped around
+ * the connection factory of the pool.
+ *
+ * <p>Every execution updates in-memory counters keyed by SQL text, a
+ * {@value #TIMER_NAME} timer and a {@value #ROWS_NAME} summary tagged with a short
+ * statement id and its operation (for example {@code select users}). Executions
+ * above {@code adapters.r2dbc.monitoring.slow-query-threshold} are logged with the
+ * bind values replaced by their types. Once {@code max-statements} distinct
+ * statements are tracked, new ones are accumulated under {@value #OVERFLOW_ID}.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "adapters.r2dbc.monitoring", name = "enabled", matchIfMissing = true)
+public class StatementStatsListener implements ProxyExecutionListener {
+
+    static final String TIMER_NAME = "authservice.db.statement";
+    static final String ROWS_NAME = "authservice.db.statement.rows";
+    static final String OVERFLOW_ID = "other";
+
+    private final long slowQueryThresholdNanos;
+    private final int maxStatements;
+    private final int topStatements;
+    private final MeterRegistry registry;
+    private final Map<String, Accumulator> statements = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StatementStatsListener(StatementMonitoringProperties properties, ObjectProvider<MeterRegistry> registry) {
+        this(properties, registry.getIfAvailable());
+    }
+
+    StatementStatsListener(StatementMonitoringProperties properties, MeterRegistry registry) {
+        this.slowQueryThresholdNanos = properties.slowQueryThreshold().toNanos();
+        this.maxStatements = properties.maxStatements();
+        this.topStatements = properties.topStatements();
+        this.registry = registry;
+    }
+
+    @Override
+    public void afterQuery(QueryExecutionInfo execution) {
+        List<QueryInfo> queries = execution.getQueries();
+        if (queries.isEmpty()) {
+            return;
+        }
+        String sql = queries.size() == 1 ? queries.get(0).getQuery() : joinQueries(queries);
+        long nanos = execution.getExecuteDuration().toNanos();
+        long rows = execution.getCurrentResultCount();
+        boolean failed = execution.getThrowable() != null;
+
+        accumulatorFor(sql).record(nanos, rows, failed);
+
+        if (nanos >= slowQueryThresholdNanos) {
+            log.atWarn()
+                    .setMessage("Slow SQL statement")
+                    .addKeyValue("elapsedMs", TimeUnit.NANOSECONDS.toMillis(nanos))
+                    .addKeyValue("rows", rows)
+                    .addKeyValue("success", !failed)
+                    .addKeyValue("sql", sql)
+                    .addKeyValue("bindings", redactedBindings(queries))
+                    .log();
+        }
+    }
+
+    public List<StatementStats> topByTotalTime() {
+        return topByTotalTime(topStatements);
+    }
+
+    public List<StatementStats> topByTotalTime(int limit) {
+        return statements.values().stream()
+                .map(Accumulator::snapshot)
+                .sorted(Comparator.comparingDouble(StatementStats::totalMillis).reversed())
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+
+    private Accumulator accumulatorFor(String sql) {
+        Accumulator accumulator = statements.get(sql);
+        if (accumulator != null) {
+            return accumulator;
+        }
+        if (statements.size() >= maxStatements) {
+            return statements.computeIfAbsent(OVERFLOW_ID, key -> new Accumulator(OVERFLOW_ID, OVERFLOW_ID, OVERFLOW_ID));
+        }
+        return statements.computeIfAbsent(sql, key -> new Accumulator(idOf(key), operationOf(key), key));
+    }
+
+    static String idOf(String sql) {
+        return "q" + Integer.toHexString(sql.hashCode());
+    }
+
+    /**
+     * Reduces a statement to its verb and main table, e.g. {@code select users}.
+     */
+    static String operationOf(String sql) {
+        String[] tokens = sql.trim().split("\\s+");
+        if (tokens.length == 0 || tokens[0].isEmpty()) {
+            return "unknown";
+        }
+        String verb = tokens[0].toLowerCase(Locale.ROOT);
+        String anchor = switch (verb) {
+            case "select", "delete" -> "from";
+            case "insert" -> "into";
+            case "update" -> "update";
+            default -> null;
+        };
+        if (anchor != null) {
+            for (int i = 0; i < tokens.length - 1; i++) {
+                if (tokens[i].equalsIgnoreCase(anchor)) {
+                    return verb + " " + tokens[i + 1].replace("\"", "").toLowerCase(Locale.ROOT);
+                }
+            }
+        }
+        return verb;
+    }
+
+    static String redactedBindings(List<QueryInfo> queries) {
+        StringBuilder redacted = new StringBuilder();
+        for (QueryInfo query : queries) {
+            for (Bindings bindings : query.getBindingsList()) {
+                redacted.append('[');
+                appendRedacted(redacted, bindings.getIndexBindings());
+                appendRedacted(redacted, bindings.getNamedBindings());
+                redacted.append(']');
+            }
+        }
+        return redacted.toString();
+    }
+
+    private static void appendRedacted(StringBuilder redacted, Iterable<Binding> bindings) {
+        for (Binding binding : bindings) {
+            if (redacted.charAt(redacted.length() - 1) != '[') {
+                redacted.append(", ");
+            }
+            BoundValue value = binding.getBoundValue();
+            String type = value.isNull()
+                    ? "null"
+                    : value.getValue() == null ? "?" : value.getValue().getClass().getSimpleName();
+            redacted.append(binding.getKey()).append('=').append(type);
+        }
+    }
+
+    private static String joinQueries(List<QueryInfo> queries) {
+        StringBuilder joined = new StringBuilder();
+        for (QueryInfo query : queries) {
+            if (!joined.isEmpty()) {
+                joined.append("; ");
+            }
+            joined.append(query.getQuery());
+        }
+        return joined.toString();
+    }
+
+    private final class Accumulator {
+
+        private final String id;
+        private final String operation;
+        private final String sql;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final Timer timer;
+        private final DistributionSummary rowSummary;
+
+        private Accumulator(String id, String operation, String sql) {
+            this.id = id;
+            this.operation = operation;
+            this.sql = sql;
+            if (registry != null) {
+                this.timer = Timer.builder(TIMER_NAME)
+                        .tag("statement", id)
+                        .tag("operation", operation)
+                        .register(registry);
+                this.rowSummary = DistributionSummary.builder(ROWS_NAME)
+                        .tag("statement", id)
+                        .tag("operation", operation)
+                        .register(registry);
+            } else {
+                this.timer = null;
+                this.rowSummary = null;
+            }
+        }
+
+        private void record(long nanos, long rowCount, boolean failed) {
+            calls.increment();
+            totalNanos.add(nanos);
+            rows.add(rowCount);
+            if (failed) {
+                errors.increment();
+            }
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            if (timer != null) {
+                timer.record(nanos, TimeUnit.NANOSECONDS);
+                rowSummary.record(rowCount);
+            }
+        }
+
+        private StatementStats snapshot() {
+            long callCount = calls.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new StatementStats(
+                    id,
+                    operation,
+                    sql,
+                    callCount,
+                    errors.sum(),
+                    rows.sum(),
+                    total,
+                    callCount == 0 ? 0 : total / callCount,
+                    maxNanos.get() / 1_000_000.0
+            );
+        }
+    }
+}
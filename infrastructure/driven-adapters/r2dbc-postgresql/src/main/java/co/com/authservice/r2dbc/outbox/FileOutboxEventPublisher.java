@@ -0,0 +1,77 @@
+package co.com.authservice.r2dbc.outbox;
+
+import co.com.authservice.model.outbox.OutboxEvent;
+import co.com.authservice.model.outbox.gateways.OutboxEventPublisher;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Stand-in publisher that appends each event as one JSON line to a file, which
+ * consumers can tail. A batch is written with a single write and forced to disk before
+ * it counts as published.
+ */
+public class FileOutboxEventPublisher implements OutboxEventPublisher {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final Path file;
+
+    public FileOutboxEventPublisher(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public Mono<Void> publish(List<OutboxEvent> events) {
+        return Mono.<Void>fromCallable(() -> {
+                    append(lines(events));
+                    return null;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private synchronized void append(String lines) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    static String lines(List<OutboxEvent> events) throws IOException {
+        StringWriter out = new StringWriter(events.size() * 256);
+        for (OutboxEvent event : events) {
+            try (JsonGenerator json = JSON.createGenerator(out)) {
+                json.writeStartObject();
+                json.writeNumberField("id", event.id());
+                json.writeStringField("aggregateType", event.aggregateType());
+                json.writeNumberField("aggregateId", event.aggregateId());
+                json.writeStringField("eventType", event.eventType());
+                json.writeStringField("createdAt", String.valueOf(event.createdAt()));
+                json.writeFieldName("payload");
+                json.writeRawValue(event.payload());
+                json.writeEndObject();
+            }
+            out.write('\n');
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package co.com.authservice.r2dbc.outbox;
+
+import co.com.authservice.model.outbox.OutboxEvent;
+import co.com.authservice.model.outbox.gateways.OutboxEventPublisher;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Stand-in publisher that keeps the last {@code capacity} events in memory, for tests
+ * and local runs without a broker.
+ */
+public class InMemoryOutboxEventPublisher implements OutboxEventPublisher {
+
+    private final int capacity;
+    private final Deque<OutboxEvent> events = new ArrayDeque<>();
+
+    public InMemoryOutboxEventPublisher(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Mono<Void> publish(List<OutboxEvent> batch) {
+        return Mono.fromRunnable(() -> {
+            synchronized (events) {
+                for (OutboxEvent event : batch) {
+                    if (events.size() == capacity) {
+                        events.removeFirst();
+                    }
+                    events.addLast(event);
+                }
+            }
+        });
+    }
+
+    public List<OutboxEvent> published() {
+        synchronized (events) {
+            return new ArrayList<>(events);
+        }
+    }
+}
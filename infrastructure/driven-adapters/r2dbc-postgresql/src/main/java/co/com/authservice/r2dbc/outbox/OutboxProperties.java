@@ -0,0 +1,46 @@
+package co.com.authservice.r2dbc.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Relay of the transactional outbox.
+ *
+ * @param enabled      whether this instance relays events. It does not affect writing:
+ *                     {@link OutboxWriter} always records events with the change that
+ *                     raised them, and they wait in the outbox until some instance relays
+ * @param pollInterval how often the outbox is checked for events committed elsewhere
+ * @param batchSize    events read, published and marked per transaction
+ * @param sink         stand-in publisher to use when no other is defined:
+ *                     {@code none} (the default; the relay does not start), {@code memory}
+ *                     or {@code file}, meant for development and tests
+ * @param file         NDJSON file appended to by the {@code file} sink
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.outbox")
+public record OutboxProperties(
+        Boolean enabled,
+        Duration pollInterval,
+        Integer batchSize,
+        String sink,
+        Path file) {
+
+    public OutboxProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (pollInterval == null) {
+            pollInterval = Duration.ofSeconds(1);
+        }
+        if (batchSize == null || batchSize < 1) {
+            batchSize = 100;
+        }
+        if (sink == null) {
+            sink = "none";
+        }
+        if (file == null) {
+            file = Path.of("outbox", "events.ndjson");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package co.com.authservice.r2dbc.outbox;
+
+import co.com.authservice.model.outbox.OutboxEvent;
+import co.com.authservice.model.outbox.gateways.OutboxEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Publishes committed {@code outbox_event} rows through the {@link OutboxEventPublisher}.
+ *
+ * <p>Each batch is read with {@code FOR UPDATE SKIP LOCKED}, published and marked in one
+ * transaction, so several instances can relay concurrently without publishing the same
+ * row twice, and a failed publish rolls back and is retried. The relay runs after every
+ * local commit signalled through {@link OutboxWriter#committed()} and every
+ * {@code adapters.r2dbc.outbox.poll-interval} for events written by other instances,
+ * draining full batches until the outbox is empty. A poll of an empty outbox is a single
+ * index lookup on the unpublished rows.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "adapters.r2dbc.outbox", name = "enabled", matchIfMissing = true)
+public class OutboxRelay implements SmartLifecycle {
+
+    static final String SELECT_BATCH = """
+            SELECT id, aggregate_type, aggregate_id, event_type, payload::text AS payload, created_at
+            FROM outbox_event
+            WHERE published_at IS NULL
+            ORDER BY id
+            LIMIT $1
+            FOR UPDATE SKIP LOCKED
+            """;
+    static final String MARK_PUBLISHED = "UPDATE outbox_event SET published_at = clock_timestamp() WHERE id = ANY($1)";
+    static final String PUBLISHED_METRIC = "authservice.outbox.published";
+    static final String FAILURES_METRIC = "authservice.outbox.failures";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final OutboxWriter outboxWriter;
+    private final OutboxEventPublisher publisher;
+    private final OutboxProperties properties;
+    private final Counter published;
+    private final Counter failures;
+    private volatile Disposable relay;
+
+    @Autowired
+    public OutboxRelay(DatabaseClient databaseClient, TransactionalOperator transactionalOperator,
+                       OutboxWriter outboxWriter, ObjectProvider<OutboxEventPublisher> publisher,
+                       OutboxProperties properties, ObjectProvider<MeterRegistry> registry) {
+        this(databaseClient, transactionalOperator, outboxWriter, publisher.getIfAvailable(), properties,
+                registry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    OutboxRelay(DatabaseClient databaseClient, TransactionalOperator transactionalOperator, OutboxWriter outboxWriter,
+                OutboxEventPublisher publisher, OutboxProperties properties, MeterRegistry registry) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.outboxWriter = outboxWriter;
+        this.publisher = publisher;
+        this.properties = properties;
+        this.published = Counter.builder(PUBLISHED_METRIC).register(registry);
+        this.failures = Counter.builder(FAILURES_METRIC).register(registry);
+    }
+
+    /**
+     * Publishes batches until one comes back short.
+     */
+    Mono<Void> relay() {
+        return Mono.defer(this::relayBatch)
+                .repeat()
+                .takeUntil(relayed -> relayed < properties.batchSize())
+                .then()
+                .onErrorResume(error -> {
+                    failures.increment();
+                    log.atWarn()
+                            .setMessage("Outbox relay failed")
+                            .addKeyValue("exception", error.getClass().getSimpleName())
+                            .log();
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Integer> relayBatch() {
+        return databaseClient.sql(SELECT_BATCH)
+                .bind(0, properties.batchSize())
+                .map(OutboxRelay::toEvent)
+                .all()
+                .collectList()
+                .flatMap(batch -> batch.isEmpty()
+                        ? Mono.just(0)
+                        : publisher.publish(batch)
+                                .then(Mono.defer(() -> markPublished(batch)))
+                                .doOnSuccess(done -> published.increment(batch.size()))
+                                .thenReturn(batch.size()))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Void> markPublished(List<OutboxEvent> batch) {
+        Long[] ids = batch.stream().map(OutboxEvent::id).toArray(Long[]::new);
+        return databaseClient.sql(MARK_PUBLISHED).bind(0, ids).then();
+    }
+
+    private static OutboxEvent toEvent(Readable row) {
+        return new OutboxEvent(
+                row.get("id", Long.class),
+                row.get("aggregate_type", String.class),
+                row.get("aggregate_id", Long.class),
+                row.get("event_type", String.class),
+                row.get("payload", String.class),
+                row.get("created_at", Instant.class));
+    }
+
+    @Override
+    public void start() {
+        if (publisher == null) {
+            log.atInfo()
+                    .setMessage("Outbox relay not started: no publisher configured")
+                    .addKeyValue("sink", properties.sink())
+                    .log();
+            return;
+        }
+        relay = Flux.merge(Flux.interval(properties.pollInterval()).map(tick -> true), outboxWriter.commits())
+                .onBackpressureDrop()
+                .concatMap(trigger -> relay(), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable disposable = relay;
+        if (disposable != null) {
+            disposable.dispose();
+            relay = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return relay != null;
+    }
+}
@@ -0,0 +1,29 @@
+package co.com.authservice.r2dbc.outbox;
+
+import co.com.authservice.model.outbox.gateways.OutboxEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stand-in {@link OutboxEventPublisher}s selected by {@code adapters.r2dbc.outbox.sink}.
+ * A publisher bean for a real broker takes precedence over both.
+ */
+@Configuration
+public class OutboxSinkConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxEventPublisher.class)
+    @ConditionalOnProperty(prefix = "adapters.r2dbc.outbox", name = "sink", havingValue = "memory")
+    public InMemoryOutboxEventPublisher inMemoryOutboxEventPublisher() {
+        return new InMemoryOutboxEventPublisher(10_000);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxEventPublisher.class)
+    @ConditionalOnProperty(prefix = "adapters.r2dbc.outbox", name = "sink", havingValue = "file")
+    public FileOutboxEventPublisher fileOutboxEventPublisher(OutboxProperties properties) {
+        return new FileOutboxEventPublisher(properties.file());
+    }
+}
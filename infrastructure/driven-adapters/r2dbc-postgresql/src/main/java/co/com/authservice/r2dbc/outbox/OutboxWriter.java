@@ -0,0 +1,88 @@
+package co.com.authservice.r2dbc.outbox;
+
+import co.com.authservice.model.user.User;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+/**
+ * Appends events to the {@code outbox_event} table (see {@code db/outbox_event.sql}).
+ *
+ * <p>{@link #userCreated(User)} goes through the {@link DatabaseClient}, so when it is
+ * composed into a {@code TransactionalOperator} pipeline the row is written in that
+ * transaction and is only visible if the change itself commits. {@link #committed()}
+ * lets the {@link OutboxRelay} of this instance publish right away instead of waiting
+ * for its next poll.</p>
+ *
+ * <p>Events are written whether or not this instance relays them
+ * ({@code adapters.r2dbc.outbox.enabled}), so relaying can be limited to some instances
+ * without losing the events of the others.</p>
+ */
+@Component
+public class OutboxWriter {
+
+    static final String INSERT = "INSERT INTO outbox_event (aggregate_type, aggregate_id, event_type, payload) "
+            + "VALUES ($1, $2, $3, $4::jsonb)";
+    static final String USER = "user";
+    static final String USER_CREATED = "USER_CREATED";
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final DatabaseClient databaseClient;
+    private final Sinks.Many<Boolean> commits = Sinks.many().multicast().directBestEffort();
+
+    public OutboxWriter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Must be composed into the transaction that saved {@code user}.
+     */
+    public Mono<Void> userCreated(User user) {
+        return databaseClient.sql(INSERT)
+                .bind(0, USER)
+                .bind(1, user.getId())
+                .bind(2, USER_CREATED)
+                .bind(3, userPayload(user))
+                .then();
+    }
+
+    /**
+     * Signals that a transaction with outbox events has committed.
+     */
+    public void committed() {
+        commits.tryEmitNext(Boolean.TRUE);
+    }
+
+    Flux<Boolean> commits() {
+        return commits.asFlux();
+    }
+
+    /**
+     * The public view of the account; never the password or lockout state.
+     */
+    static String userPayload(User user) {
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator json = JSON.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeNumberField("id", user.getId());
+            json.writeStringField("documentNumber", user.getDocumentNumber());
+            json.writeStringField("name", user.getName());
+            json.writeStringField("lastname", user.getLastname());
+            json.writeStringField("email", user.getEmail());
+            json.writeStringField("role", user.getRole() != null ? user.getRole().getName() : null);
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,12 @@
+-- Audit trail written in batches by AuditEventRepositoryAdapter (adapters.r2dbc.audit).
+CREATE TABLE IF NOT EXISTS audit_event (
+    id          BIGSERIAL PRIMARY KEY,
+    event_type  TEXT        NOT NULL,
+    user_id     BIGINT,
+    occurred_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS audit_event_user_id_occurred_at ON audit_event (user_id, occurred_at);
+
+-- Moved forward by the same flush for successful logins.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS last_login_at TIMESTAMPTZ;
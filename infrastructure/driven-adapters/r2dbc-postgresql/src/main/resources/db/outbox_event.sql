@@ -0,0 +1,17 @@
+-- Transactional outbox, written in the same transaction as the change it describes
+-- (OutboxWriter) and published in batches by OutboxRelay (adapters.r2dbc.outbox).
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id             BIGSERIAL PRIMARY KEY,
+    aggregate_type TEXT        NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    event_type     TEXT        NOT NULL,
+    payload        JSONB       NOT NULL,
+    created_at     TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    published_at   TIMESTAMPTZ
+);
+
+-- Keeps the relay's poll an index lookup however many published rows accumulate.
+CREATE INDEX IF NOT EXISTS outbox_event_unpublished ON outbox_event (id) WHERE published_at IS NULL;
+
+-- Published rows can be removed once consumers no longer need to replay them, e.g.:
+-- DELETE FROM outbox_event WHERE published_at < now() - INTERVAL '7 days';
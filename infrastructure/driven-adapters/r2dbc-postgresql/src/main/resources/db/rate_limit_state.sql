@@ -0,0 +1,9 @@
+-- Shared login rate limit state, used when security.rate-limit.shared=true.
+-- One row per limited key holding its GCRA theoretical arrival time in epoch millis.
+CREATE TABLE IF NOT EXISTS rate_limit_state (
+    limit_key TEXT PRIMARY KEY,
+    tat_ms    BIGINT NOT NULL
+);
+
+-- Rows whose TAT is in the past describe a full bucket; RateLimitRepositoryAdapter deletes
+-- them every security.rate-limit.cleanup-interval.
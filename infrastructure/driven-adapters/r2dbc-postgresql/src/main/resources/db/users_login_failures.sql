@@ -0,0 +1,4 @@
+-- Failed-login state written in batches by the account lockout (security.lockout).
+-- Both columns are nullable: a NULL count means no failures, a NULL lock means never locked.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS failed_login_attempts INTEGER;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS locked_until TIMESTAMPTZ;
@@ -0,0 +1,77 @@
+package co.com.authservice.r2dbc;
+
+import co.com.authservice.model.lockout.LoginFailure;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginFailureRepositoryAdapter - Batched Write Tests")
+class LoginFailureRepositoryAdapterTest {
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @InjectMocks
+    private LoginFailureRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should bind every account to a single statement")
+    @SuppressWarnings("unchecked")
+    void shouldWriteOneBatchedStatement() {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        Result result = mock(Result.class);
+        when(databaseClient.inConnectionMany(any())).thenAnswer(invocation ->
+                Flux.from(((Function<Connection, Publisher<Long>>) invocation.getArgument(0)).apply(connection)));
+        when(connection.createStatement(LoginFailureRepositoryAdapter.UPDATE)).thenReturn(statement);
+        when(statement.execute()).thenAnswer(invocation -> Flux.just(result, result));
+        when(result.getRowsUpdated()).thenReturn(Mono.just(1L));
+        Instant lockedUntil = Instant.parse("2024-01-15T10:45:00Z");
+
+        StepVerifier.create(adapter.saveAll(List.of(
+                        new LoginFailure(1L, 3, null),
+                        new LoginFailure(2L, 0, lockedUntil))))
+                .verifyComplete();
+
+        InOrder order = inOrder(statement);
+        order.verify(statement).bind(0, 3);
+        order.verify(statement).bindNull(1, Instant.class);
+        order.verify(statement).bind(2, 1L);
+        order.verify(statement).add();
+        order.verify(statement).bind(0, 0);
+        order.verify(statement).bind(1, lockedUntil);
+        order.verify(statement).bind(2, 2L);
+        order.verify(statement).execute();
+    }
+
+    @Test
+    @DisplayName("Should skip the database for an empty batch")
+    void shouldSkipEmptyBatch() {
+        StepVerifier.create(adapter.saveAll(List.of())).verifyComplete();
+
+        verifyNoInteractions(databaseClient);
+    }
+}
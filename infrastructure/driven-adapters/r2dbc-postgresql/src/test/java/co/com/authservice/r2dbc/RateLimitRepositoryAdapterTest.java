@@ -0,0 +1,62 @@
+package co.com.authservice.r2dbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RateLimitRepositoryAdapter - Shared State Cleanup Tests")
+class RateLimitRepositoryAdapterTest {
+
+    private DatabaseClient databaseClient;
+    private FetchSpec<Map<String, Object>> fetchSpec;
+    private RateLimitRepositoryAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        fetchSpec = mock(FetchSpec.class);
+        when(databaseClient.sql(RateLimitRepositoryAdapter.DELETE_EXPIRED)).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.fetch()).thenReturn(fetchSpec);
+        adapter = new RateLimitRepositoryAdapter(databaseClient, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should delete expired rows in batches until a batch comes back short")
+    void shouldDeleteExpiredInBatches() {
+        when(fetchSpec.rowsUpdated()).thenReturn(
+                Mono.just((long) RateLimitRepositoryAdapter.CLEANUP_BATCH), Mono.just(12L));
+
+        StepVerifier.create(adapter.deleteExpired())
+                .expectNext(RateLimitRepositoryAdapter.CLEANUP_BATCH + 12L)
+                .verifyComplete();
+
+        verify(databaseClient, times(2)).sql(RateLimitRepositoryAdapter.DELETE_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("Should run a single statement when nothing has expired")
+    void shouldStopWhenNothingExpired() {
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(adapter.deleteExpired()).expectNext(0L).verifyComplete();
+
+        verify(databaseClient).sql(RateLimitRepositoryAdapter.DELETE_EXPIRED);
+    }
+}
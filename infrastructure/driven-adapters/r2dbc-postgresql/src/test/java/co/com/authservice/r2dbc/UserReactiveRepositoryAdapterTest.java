@@ -4,6 +4,7 @@ import co.com.authservice.model.role.Role;
 import co.com.authservice.model.user.User;
 import co.com.authservice.r2dbc.entity.RoleEntity;
 import co.com.authservice.r2dbc.entity.UserEntity;
+import co.com.authservice.r2dbc.outbox.OutboxWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,6 +24,8 @@ import java.time.LocalDate;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +44,9 @@ class UserReactiveRepositoryAdapterTest {
     @Mock
     private TransactionalOperator transactionalOperator;
 
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private UserReactiveRepositoryAdapter repositoryAdapter;
 
@@ -51,6 +57,8 @@ class UserReactiveRepositoryAdapterTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(outboxWriter.userCreated(any(User.class))).thenReturn(Mono.empty());
+
         domainUser = User.builder()
                 .id(1L)
                 .name("Juan")
@@ -111,6 +119,9 @@ class UserReactiveRepositoryAdapterTest {
                             savedUser.getRole().getName().equals("CLIENT")
                     )
                     .verifyComplete();
+
+            verify(outboxWriter).userCreated(domainUser);
+            verify(outboxWriter).committed();
         }
 
         @Test
@@ -0,0 +1,149 @@
+package co.com.authservice.r2dbc.audit;
+
+import co.com.authservice.model.audit.AuditEvent;
+import co.com.authservice.model.audit.AuditEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AuditEventRepositoryAdapter - Write-Behind Tests")
+class AuditEventRepositoryAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:30:00Z");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DatabaseClient databaseClient;
+    private DatabaseClient.GenericExecuteSpec spec;
+    private FetchSpec<Map<String, Object>> fetchSpec;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        databaseClient = mock(DatabaseClient.class);
+        spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        fetchSpec = mock(FetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+    }
+
+    @Test
+    @DisplayName("Should write queued events in batches with the same statement")
+    void shouldWriteInBatches() {
+        AuditEventRepositoryAdapter adapter = adapter(10, 2);
+        adapter.record(event(AuditEventType.USER_CREATED, 1L));
+        adapter.record(event(AuditEventType.LOGIN_FAILED, 2L));
+        adapter.record(event(AuditEventType.LOGIN_FAILED, null));
+
+        StepVerifier.create(adapter.flush()).verifyComplete();
+
+        verify(databaseClient, times(2)).sql(AuditEventRepositoryAdapter.INSERT);
+        verify(spec).bind(0, new String[]{"USER_CREATED", "LOGIN_FAILED"});
+        verify(spec).bind(1, new Long[]{1L, 2L});
+        verify(spec).bind(1, new Long[]{null});
+        verify(databaseClient, never()).sql(AuditEventRepositoryAdapter.UPDATE_LAST_LOGIN);
+        assertEquals(3.0, registry.get(AuditEventRepositoryAdapter.EVENTS_METRIC).tag("outcome", "written")
+                .counter().count());
+        assertEquals(0.0, registry.get(AuditEventRepositoryAdapter.QUEUE_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should move last login forward once per user in the batch")
+    void shouldUpdateLastLogin() {
+        AuditEventRepositoryAdapter adapter = adapter(10, 10);
+        adapter.record(event(AuditEventType.LOGIN_SUCCEEDED, 1L));
+        adapter.record(new AuditEvent(AuditEventType.LOGIN_SUCCEEDED, 1L, NOW.plusSeconds(5)));
+
+        StepVerifier.create(adapter.flush()).verifyComplete();
+
+        verify(databaseClient).sql(AuditEventRepositoryAdapter.UPDATE_LAST_LOGIN);
+        verify(spec).bind(0, new Long[]{1L});
+        verify(spec).bind(1, new Instant[]{NOW.plusSeconds(5)});
+    }
+
+    @Test
+    @DisplayName("Should drop and count events once the queue is full")
+    void shouldDropWhenFull() {
+        AuditEventRepositoryAdapter adapter = adapter(2, 10);
+        adapter.record(event(AuditEventType.USER_CREATED, 1L));
+        adapter.record(event(AuditEventType.USER_CREATED, 2L));
+        adapter.record(event(AuditEventType.USER_CREATED, 3L));
+
+        assertEquals(1.0, registry.get(AuditEventRepositoryAdapter.EVENTS_METRIC).tag("outcome", "dropped")
+                .counter().count());
+        assertEquals(2.0, registry.get(AuditEventRepositoryAdapter.QUEUE_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should count a rejected batch as failed and keep flushing")
+    void shouldCountFailedBatches() {
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.error(new IllegalStateException("down")), Mono.just(1L));
+        AuditEventRepositoryAdapter adapter = adapter(10, 1);
+        adapter.record(event(AuditEventType.USER_CREATED, 1L));
+        adapter.record(event(AuditEventType.USER_CREATED, 2L));
+
+        StepVerifier.create(adapter.flush()).verifyComplete();
+
+        assertEquals(1.0, registry.get(AuditEventRepositoryAdapter.EVENTS_METRIC).tag("outcome", "failed")
+                .counter().count());
+        assertEquals(1.0, registry.get(AuditEventRepositoryAdapter.EVENTS_METRIC).tag("outcome", "written")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Should drain the queue on shutdown")
+    void shouldDrainOnStop() {
+        AuditEventRepositoryAdapter adapter = adapter(10, 10);
+        adapter.start();
+        adapter.record(event(AuditEventType.USER_CREATED, 1L));
+
+        adapter.stop();
+
+        verify(databaseClient).sql(AuditEventRepositoryAdapter.INSERT);
+        assertEquals(false, adapter.isRunning());
+    }
+
+    @Test
+    @DisplayName("Should finish the write in progress on shutdown instead of cancelling it")
+    void shouldFinishInFlightWriteOnStop() {
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L).delayElement(Duration.ofMillis(200)));
+        AuditEventRepositoryAdapter adapter = adapter(10, 1);
+        adapter.start();
+        adapter.record(event(AuditEventType.USER_CREATED, 1L));
+        assertEquals(0.0, registry.get(AuditEventRepositoryAdapter.QUEUE_METRIC).gauge().value());
+
+        adapter.stop();
+
+        assertEquals(1.0, registry.get(AuditEventRepositoryAdapter.EVENTS_METRIC).tag("outcome", "written")
+                .counter().count());
+    }
+
+    private AuditEventRepositoryAdapter adapter(int capacity, int batchSize) {
+        return new AuditEventRepositoryAdapter(databaseClient,
+                new AuditProperties(capacity, batchSize, Duration.ofHours(1), Duration.ofSeconds(5)), registry);
+    }
+
+    private static AuditEvent event(AuditEventType type, Long userId) {
+        return new AuditEvent(type, userId, NOW);
+    }
+}
@@ -1,12 +1,17 @@
 package co.com.authservice.r2dbc.config;
 
+import io.micrometer.observation.ObservationRegistry;
 import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,6 +50,18 @@ class PostgreSQLConnectionPoolTest {
             assertTrue(connectionPool instanceof ConnectionPool, "Should be instance of ConnectionPool");
         }
 
+        @Test
+        @DisplayName("Should create the traced connection pool when observation is enabled")
+        void shouldCreateTracedConnectionPool() {
+            ConnectionPool connectionPool = connectionPoolConfig.getConnectionConfig(properties,
+                    new StaticListableBeanFactory(Map.of()).getBeanProvider(ProxyExecutionListener.class),
+                    new StaticListableBeanFactory(Map.of("observationRegistry", ObservationRegistry.create()))
+                            .getBeanProvider(ObservationRegistry.class));
+
+            assertNotNull(connectionPool, "Traced connection pool should not be null");
+            connectionPool.dispose();
+        }
+
         @Test
         @DisplayName("Should use correct pool constants")
         void shouldUseCorrectPoolConstants() {
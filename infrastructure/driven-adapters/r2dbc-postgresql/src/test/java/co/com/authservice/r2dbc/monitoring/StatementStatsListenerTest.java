@@ -0,0 +1,112 @@
+package co.com.authservice.r2dbc.monitoring;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StatementStatsListenerTest {
+
+    private static final String FIND_BY_EMAIL = "SELECT users.* FROM users WHERE users.email = $1";
+    private static final String EXISTS_BY_EMAIL = "SELECT users.id FROM users WHERE users.email = $1 LIMIT 1";
+
+    private SimpleMeterRegistry registry;
+    private StatementStatsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        listener = new StatementStatsListener(
+                new StatementMonitoringProperties(true, Duration.ofMillis(100), 2, 10), registry);
+    }
+
+    @Test
+    @DisplayName("Should rank statements by accumulated execution time")
+    void shouldRankStatementsByTotalTime() {
+        listener.afterQuery(execution(FIND_BY_EMAIL, Duration.ofMillis(5), 1, null));
+        listener.afterQuery(execution(FIND_BY_EMAIL, Duration.ofMillis(7), 1, null));
+        listener.afterQuery(execution(EXISTS_BY_EMAIL, Duration.ofMillis(30), 0, new RuntimeException("boom")));
+
+        List<StatementStats> top = listener.topByTotalTime();
+
+        assertEquals(2, top.size());
+        assertEquals(EXISTS_BY_EMAIL, top.get(0).sql());
+        assertEquals(1, top.get(0).errors());
+        StatementStats findByEmail = top.get(1);
+        assertEquals(2, findByEmail.calls());
+        assertEquals(2, findByEmail.rows());
+        assertEquals(12.0, findByEmail.totalMillis(), 0.001);
+        assertEquals(7.0, findByEmail.maxMillis(), 0.001);
+        assertEquals("select users", findByEmail.operation());
+    }
+
+    @Test
+    @DisplayName("Should record a timer per statement id")
+    void shouldRecordTimerPerStatement() {
+        listener.afterQuery(execution(FIND_BY_EMAIL, Duration.ofMillis(5), 1, null));
+
+        Timer timer = registry.find(StatementStatsListener.TIMER_NAME)
+                .tag("statement", StatementStatsListener.idOf(FIND_BY_EMAIL))
+                .tag("operation", "select users")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Should fold statements beyond the configured limit into the overflow bucket")
+    void shouldFoldOverflowStatements() {
+        listener.afterQuery(execution(FIND_BY_EMAIL, Duration.ofMillis(1), 1, null));
+        listener.afterQuery(execution(EXISTS_BY_EMAIL, Duration.ofMillis(1), 1, null));
+        listener.afterQuery(execution("SELECT roles.* FROM roles WHERE roles.id = $1", Duration.ofMillis(1), 1, null));
+
+        assertTrue(listener.topByTotalTime().stream()
+                .anyMatch(stats -> StatementStatsListener.OVERFLOW_ID.equals(stats.id())));
+    }
+
+    @Test
+    @DisplayName("Should derive the operation from the statement verb and table")
+    void shouldDeriveOperation() {
+        assertEquals("insert users", StatementStatsListener.operationOf("INSERT INTO users (email) VALUES ($1)"));
+        assertEquals("update users", StatementStatsListener.operationOf("UPDATE users SET name = $1"));
+        assertEquals("select", StatementStatsListener.operationOf("SELECT 1"));
+    }
+
+    @Test
+    @DisplayName("Should replace bind values with their types")
+    void shouldRedactBindValues() {
+        QueryInfo query = new QueryInfo(FIND_BY_EMAIL);
+        Bindings bindings = new Bindings();
+        bindings.addIndexBinding(Bindings.indexBinding(0, BoundValue.value("user@test.com")));
+        query.getBindingsList().add(bindings);
+
+        String redacted = StatementStatsListener.redactedBindings(List.of(query));
+
+        assertEquals("[0=String]", redacted);
+        assertFalse(redacted.contains("user@test.com"));
+    }
+
+    private static QueryExecutionInfo execution(String sql, Duration duration, int rows, Throwable error) {
+        QueryExecutionInfo execution = mock(QueryExecutionInfo.class);
+        when(execution.getQueries()).thenReturn(List.of(new QueryInfo(sql)));
+        when(execution.getExecuteDuration()).thenReturn(duration);
+        when(execution.getCurrentResultCount()).thenReturn(rows);
+        when(execution.getThrowable()).thenReturn(error);
+        return execution;
+    }
+}
@@ -0,0 +1,42 @@
+package co.com.authservice.r2dbc.outbox;
+
+import co.com.authservice.model.outbox.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("FileOutboxEventPublisher - NDJSON Sink Tests")
+class FileOutboxEventPublisherTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should append one JSON line per event across batches")
+    void shouldAppendLines() throws IOException {
+        Path file = directory.resolve("outbox").resolve("events.ndjson");
+        FileOutboxEventPublisher publisher = new FileOutboxEventPublisher(file);
+
+        StepVerifier.create(publisher.publish(List.of(event(1), event(2)))).verifyComplete();
+        StepVerifier.create(publisher.publish(List.of(event(3)))).verifyComplete();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        assertEquals("{\"id\":1,\"aggregateType\":\"user\",\"aggregateId\":1,\"eventType\":\"USER_CREATED\","
+                + "\"createdAt\":\"2024-01-15T10:30:00Z\",\"payload\":{\"id\":1}}", lines.get(0));
+    }
+
+    private static OutboxEvent event(long id) {
+        return new OutboxEvent(id, "user", id, "USER_CREATED", "{\"id\":" + id + "}",
+                Instant.parse("2024-01-15T10:30:00Z"));
+    }
+}
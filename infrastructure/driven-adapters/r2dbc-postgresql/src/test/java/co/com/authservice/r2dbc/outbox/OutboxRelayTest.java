@@ -0,0 +1,128 @@
+package co.com.authservice.r2dbc.outbox;
+
+import co.com.authservice.model.outbox.OutboxEvent;
+import co.com.authservice.model.outbox.gateways.OutboxEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OutboxRelay - Batched Publishing Tests")
+class OutboxRelayTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DatabaseClient databaseClient;
+    private RowsFetchSpec<OutboxEvent> rows;
+    private DatabaseClient.GenericExecuteSpec mark;
+    private InMemoryOutboxEventPublisher publisher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec select = mock(DatabaseClient.GenericExecuteSpec.class);
+        rows = mock(RowsFetchSpec.class);
+        mark = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(databaseClient.sql(OutboxRelay.SELECT_BATCH)).thenReturn(select);
+        when(select.bind(anyInt(), any())).thenReturn(select);
+        when(select.map(any(Function.class))).thenReturn(rows);
+        when(databaseClient.sql(OutboxRelay.MARK_PUBLISHED)).thenReturn(mark);
+        when(mark.bind(anyInt(), any())).thenReturn(mark);
+        when(mark.then()).thenReturn(Mono.empty());
+        publisher = new InMemoryOutboxEventPublisher(100);
+    }
+
+    @Test
+    @DisplayName("Should publish and mark full batches until the outbox is drained")
+    void shouldDrainInBatches() {
+        when(rows.all()).thenReturn(Flux.just(event(1), event(2)), Flux.just(event(3)));
+
+        StepVerifier.create(relay(publisher).relay()).verifyComplete();
+
+        assertEquals(List.of(1L, 2L, 3L), publisher.published().stream().map(OutboxEvent::id).toList());
+        verify(mark).bind(0, new Long[]{1L, 2L});
+        verify(mark).bind(0, new Long[]{3L});
+        assertEquals(3.0, registry.get(OutboxRelay.PUBLISHED_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("Should leave events unpublished when the publisher fails")
+    void shouldNotMarkWhenPublishFails() {
+        when(rows.all()).thenReturn(Flux.just(event(1)));
+        OutboxEventPublisher failing = events -> Mono.error(new IllegalStateException("broker down"));
+
+        StepVerifier.create(relay(failing).relay()).verifyComplete();
+
+        verify(mark, never()).then();
+        assertEquals(1.0, registry.get(OutboxRelay.FAILURES_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("Should stop after one query when the outbox is empty")
+    void shouldStopOnEmptyOutbox() {
+        when(rows.all()).thenReturn(Flux.empty());
+
+        StepVerifier.create(relay(publisher).relay()).verifyComplete();
+
+        verify(rows, times(1)).all();
+        assertTrue(publisher.published().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should read, publish and mark each batch in one transaction")
+    @SuppressWarnings("unchecked")
+    void shouldRunBatchInTransaction() {
+        when(rows.all()).thenReturn(Flux.just(event(1)));
+        TransactionalOperator transactionalOperator = passThrough();
+
+        new OutboxRelay(databaseClient, transactionalOperator, mock(OutboxWriter.class), publisher,
+                properties(2), registry).relay().block(Duration.ofSeconds(5));
+
+        verify(transactionalOperator).transactional(any(Mono.class));
+        assertArrayEquals(new Object[]{event(1)}, publisher.published().toArray());
+    }
+
+    private OutboxRelay relay(OutboxEventPublisher eventPublisher) {
+        return new OutboxRelay(databaseClient, passThrough(), mock(OutboxWriter.class), eventPublisher, properties(2),
+                registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TransactionalOperator passThrough() {
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        return transactionalOperator;
+    }
+
+    private static OutboxProperties properties(int batchSize) {
+        return new OutboxProperties(true, Duration.ofHours(1), batchSize, "memory", Path.of("unused"));
+    }
+
+    private static OutboxEvent event(long id) {
+        return new OutboxEvent(id, OutboxWriter.USER, id, OutboxWriter.USER_CREATED, "{\"id\":" + id + "}",
+                Instant.parse("2024-01-15T10:30:00Z"));
+    }
+}
@@ -0,0 +1,66 @@
+package co.com.authservice.r2dbc.outbox;
+
+import co.com.authservice.model.role.Role;
+import co.com.authservice.model.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OutboxWriter - Outbox Append Tests")
+class OutboxWriterTest {
+
+    private final User user = User.builder()
+            .id(1L)
+            .documentNumber("123")
+            .name("Juan")
+            .lastname("Pérez \"JP\"")
+            .email("juan.perez@email.com")
+            .password("$2a$12$hash")
+            .role(Role.builder().id(3L).name("CLIENT").build())
+            .build();
+
+    @Test
+    @DisplayName("Should insert the user-created event with its JSON payload")
+    void shouldInsertUserCreated() {
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(databaseClient.sql(OutboxWriter.INSERT)).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.then()).thenReturn(Mono.empty());
+
+        StepVerifier.create(new OutboxWriter(databaseClient).userCreated(user)).verifyComplete();
+
+        verify(spec).bind(0, OutboxWriter.USER);
+        verify(spec).bind(1, 1L);
+        verify(spec).bind(2, OutboxWriter.USER_CREATED);
+        verify(spec).bind(3, OutboxWriter.userPayload(user));
+    }
+
+    @Test
+    @DisplayName("Should expose only the public view of the account")
+    void shouldBuildPublicPayload() {
+        assertEquals("{\"id\":1,\"documentNumber\":\"123\",\"name\":\"Juan\",\"lastname\":\"Pérez \\\"JP\\\"\","
+                        + "\"email\":\"juan.perez@email.com\",\"role\":\"CLIENT\"}",
+                OutboxWriter.userPayload(user));
+    }
+
+    @Test
+    @DisplayName("Should wake up relays on commit")
+    void shouldSignalCommits() {
+        OutboxWriter writer = new OutboxWriter(mock(DatabaseClient.class));
+
+        StepVerifier.create(writer.commits().take(1))
+                .then(writer::committed)
+                .expectNext(Boolean.TRUE)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,92 @@
+package co.com.authservice.api.http;
+
+import co.com.authservice.api.dto.response.LoginResponseDTO;
+import co.com.authservice.api.dto.response.RoleResponseDTO;
+import co.com.authservice.api.dto.response.UserResponseDTO;
+import co.com.authservice.api.dto.response.UserSummaryDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of the response DTOs per {@link ResponseFormat}. The login
+ * response and a 50-user page are used as bodies.
+ *
+ * <p>Payload sizes are printed once per fork. Run with
+ * {@code ./gradlew :reactive-web:jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoCodecBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"JSON", "CBOR", "PROTOBUF"})
+    public ResponseFormat format;
+
+    private DtoCodecs codecs;
+    private LoginResponseDTO login;
+    private UserResponseDTO user;
+    private List<UserResponseDTO> users;
+    private byte[] encodedLogin;
+    private byte[] encodedUser;
+
+    @Setup
+    public void setUp() throws IOException {
+        codecs = new DtoCodecs(Jackson2ObjectMapperBuilder.json().build(), new Jackson2ObjectMapperBuilder());
+        RoleResponseDTO role = new RoleResponseDTO(2L, "CLIENT", "Regular client user");
+        login = new LoginResponseDTO("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJqdWFuLnBlcmV6QGVtYWlsLmNvbSIsInJvbGUiOiJD"
+                + "TElFTlQiLCJwZXJtaXNzaW9ucyI6IjdmIn0.c2lnbmF0dXJlLXBsYWNlaG9sZGVyLWZvci1iZW5jaG1hcms", 3600L,
+                new UserSummaryDTO(1L, "Juan Pérez", "juan.perez@email.com", role));
+        users = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            users.add(new UserResponseDTO(id, String.valueOf(100_000_000L + id), "Juan", "Pérez",
+                    LocalDate.of(1990, 5, 15), "Calle 123 #45-67", "+57 300 123 4567",
+                    new BigDecimal("5000000.00"), "user" + id + "@email.com", role));
+        }
+        user = users.get(0);
+        encodedLogin = codecs.encode(login, format);
+        encodedUser = codecs.encode(user, format);
+        System.out.printf("%n%s payload bytes: login=%d, user=%d, page(%d)=%d%n", format, encodedLogin.length,
+                encodedUser.length, PAGE_SIZE, codecs.encode(users, format).length);
+    }
+
+    @Benchmark
+    public byte[] encodeLogin() throws IOException {
+        return codecs.encode(login, format);
+    }
+
+    @Benchmark
+    public LoginResponseDTO decodeLogin() throws IOException {
+        return codecs.decode(encodedLogin, format, LoginResponseDTO.class);
+    }
+
+    @Benchmark
+    public byte[] encodeUser() throws IOException {
+        return codecs.encode(user, format);
+    }
+
+    @Benchmark
+    public UserResponseDTO decodeUser() throws IOException {
+        return codecs.decode(encodedUser, format, UserResponseDTO.class);
+    }
+
+    @Benchmark
+    public byte[] encodeUserPage() throws IOException {
+        return codecs.encode(users, format);
+    }
+}
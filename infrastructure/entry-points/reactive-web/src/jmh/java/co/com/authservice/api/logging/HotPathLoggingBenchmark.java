@@ -0,0 +1,91 @@
+package co.com.authservice.api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the auth-failure log statement on the request path with logging
+ * off, on through the non-blocking async appender, and on with sampling.
+ *
+ * <p>Run with {@code ./gradlew :reactive-web:jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class HotPathLoggingBenchmark {
+
+    @Param({"OFF", "WARN"})
+    public String level;
+
+    @Param({"false", "true"})
+    public boolean sampled;
+
+    private Logger logger;
+    private AsyncAppender asyncAppender;
+    private LogSampler sampler;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        NOPAppender<ILoggingEvent> sink = new NOPAppender<>();
+        sink.setContext(context);
+        sink.start();
+
+        asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.addAppender(sink);
+        asyncAppender.start();
+
+        logger = context.getLogger("co.com.authservice.benchmark");
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+        logger.addAppender(asyncAppender);
+        logger.setLevel(Level.toLevel(level));
+
+        sampler = new LogSampler(5, Map.of(), Duration.ofSeconds(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        asyncAppender.stop();
+    }
+
+    @Benchmark
+    public void authFailure() {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        long suppressed = sampled ? sampler.tryAcquire(LogCategories.AUTH_FAILURE) : 0L;
+        if (suppressed != LogSampler.DENIED) {
+            logger.atWarn()
+                    .setMessage("Authentication failed")
+                    .addKeyValue("path", "/api/v1/user")
+                    .addKeyValue("reason", "Invalid or expired token")
+                    .addKeyValue("suppressed", suppressed)
+                    .log();
+        }
+    }
+}
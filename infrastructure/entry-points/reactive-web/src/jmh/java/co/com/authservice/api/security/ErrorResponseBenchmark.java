@@ -0,0 +1,70 @@
+package co.com.authservice.api.security;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejected-requests/sec for the 401/403 body of {@link JWTAuthenticationFilter}:
+ * the previous {@code String.format} implementation against {@link ErrorResponseWriter}.
+ *
+ * <p>Run with {@code ./gradlew :reactive-web:jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ErrorResponseBenchmark {
+
+    private static final String PATH = "/api/v1/user/123456789";
+    private static final String MESSAGE = "Invalid or expired token";
+
+    private final DataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    private final ErrorResponseWriter writer = new ErrorResponseWriter();
+
+    @Benchmark
+    public int unauthorizedBaseline() {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        String errorJson = String.format(
+                "{\"code\":\"UNAUTHORIZED\",\"message\":\"Authentication required. Please provide a valid JWT token.\",\"timestamp\":\"%s\",\"path\":\"%s\"}",
+                timestamp, PATH);
+        return release(bufferFactory.wrap(errorJson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public int unauthorizedWriter() {
+        return release(writer.render(bufferFactory, ErrorResponseWriter.UNAUTHORIZED, PATH));
+    }
+
+    @Benchmark
+    public int forbiddenBaseline() {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        String errorJson = String.format(
+                "{\"code\":\"FORBIDDEN\",\"message\":\"%s\",\"timestamp\":\"%s\",\"path\":\"%s\"}",
+                MESSAGE, timestamp, PATH);
+        return release(bufferFactory.wrap(errorJson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public int forbiddenWriter() {
+        return release(writer.renderForbidden(bufferFactory, MESSAGE, PATH));
+    }
+
+    private static int release(DataBuffer buffer) {
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+}
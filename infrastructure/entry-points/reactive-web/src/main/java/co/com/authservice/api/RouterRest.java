@@ -6,6 +6,8 @@ import co.com.authservice.api.dto.response.ErrorResponseDTO;
 import co.com.authservice.api.dto.response.LoginResponseDTO;
 import co.com.authservice.api.dto.response.RoleResponseDTO;
 import co.com.authservice.api.dto.response.UserResponseDTO;
+import co.com.authservice.api.http.ProtobufDtoCodec;
+import co.com.authservice.api.http.ResponseFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -47,10 +49,20 @@ public class RouterRest {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "Users retrieved successfully",
-                                            content = @Content(
-                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                                    array = @ArraySchema(schema = @Schema(implementation = UserResponseDTO.class))
-                                            )
+                                            content = {
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                            array = @ArraySchema(schema = @Schema(implementation = UserResponseDTO.class))
+                                                    ),
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                                            array = @ArraySchema(schema = @Schema(implementation = UserResponseDTO.class))
+                                                    ),
+                                                    @Content(
+                                                            mediaType = ProtobufDtoCodec.MEDIA_TYPE_VALUE,
+                                                            array = @ArraySchema(schema = @Schema(implementation = UserResponseDTO.class))
+                                                    )
+                                            }
                                     ),
                                     @ApiResponse(
                                             responseCode = "401",
@@ -105,10 +117,20 @@ public class RouterRest {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "User created successfully",
-                                            content = @Content(
-                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                                    schema = @Schema(implementation = UserResponseDTO.class)
-                                            )
+                                            content = {
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                            schema = @Schema(implementation = UserResponseDTO.class)
+                                                    ),
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                                            schema = @Schema(implementation = UserResponseDTO.class)
+                                                    ),
+                                                    @Content(
+                                                            mediaType = ProtobufDtoCodec.MEDIA_TYPE_VALUE,
+                                                            schema = @Schema(implementation = UserResponseDTO.class)
+                                                    )
+                                            }
                                     ),
                                     @ApiResponse(
                                             responseCode = "400",
@@ -182,10 +204,20 @@ public class RouterRest {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "User retrieved successfully",
-                                            content = @Content(
-                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                                    schema = @Schema(implementation = UserResponseDTO.class)
-                                            )
+                                            content = {
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                            schema = @Schema(implementation = UserResponseDTO.class)
+                                                    ),
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                                            schema = @Schema(implementation = UserResponseDTO.class)
+                                                    ),
+                                                    @Content(
+                                                            mediaType = ProtobufDtoCodec.MEDIA_TYPE_VALUE,
+                                                            schema = @Schema(implementation = UserResponseDTO.class)
+                                                    )
+                                            }
                                     ),
                                     @ApiResponse(
                                             responseCode = "400",
@@ -257,10 +289,20 @@ public class RouterRest {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "Authentication successful",
-                                            content = @Content(
-                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                                    schema = @Schema(implementation = LoginResponseDTO.class)
-                                            )
+                                            content = {
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                            schema = @Schema(implementation = LoginResponseDTO.class)
+                                                    ),
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                                            schema = @Schema(implementation = LoginResponseDTO.class)
+                                                    ),
+                                                    @Content(
+                                                            mediaType = ProtobufDtoCodec.MEDIA_TYPE_VALUE,
+                                                            schema = @Schema(implementation = LoginResponseDTO.class)
+                                                    )
+                                            }
                                     ),
                                     @ApiResponse(
                                             responseCode = "400",
@@ -334,10 +376,10 @@ public class RouterRest {
             )
     })
     public RouterFunction<ServerResponse> routerFunction(Handler handler) {
-        return route(GET("/api/v1/user").and(accept(MediaType.APPLICATION_JSON)), handler::getAllUsers)
+        return route(GET("/api/v1/user").and(accept(ResponseFormat.mediaTypes())), handler::getAllUsers)
                 .andRoute(GET("/api/v1/user/{documentNumber}"), handler::getUserByDocumentNumber)
-                .andRoute(POST("/api/v1/user").and(accept(MediaType.APPLICATION_JSON)), handler::createUser)
-                .andRoute(POST("/api/v1/auth/login").and(accept(MediaType.APPLICATION_JSON)), handler::login)
+                .andRoute(POST("/api/v1/user").and(accept(ResponseFormat.mediaTypes())), handler::createUser)
+                .andRoute(POST("/api/v1/auth/login").and(accept(ResponseFormat.mediaTypes())), handler::login)
                 .andRoute(GET("/api/v1/roles").and(accept(MediaType.APPLICATION_JSON)), handler::getAllRoles);
     }
 }
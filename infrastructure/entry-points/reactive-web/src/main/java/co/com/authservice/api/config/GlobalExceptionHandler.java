@@ -1,26 +1,35 @@
 package co.com.authservice.api.config;
 
 import co.com.authservice.api.dto.response.ErrorResponseDTO;
+import co.com.authservice.api.logging.LogCategories;
+import co.com.authservice.api.logging.LogSampler;
+import co.com.authservice.api.ratelimit.RateLimitExceededException;
+import co.com.authservice.api.security.AccessDeniedException;
 import co.com.authservice.model.user.exceptions.user.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebExchangeBindException;
-import org.springframework.web.reactive.function.server.HandlerStrategies;
-import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.server.MethodNotAllowedException;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.server.WebExceptionHandler;
 import reactor.core.publisher.Mono;
 
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Component
@@ -28,36 +37,41 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GlobalExceptionHandler implements WebExceptionHandler {
 
-    private final ObjectMapper objectMapper;
+    private static final int ERROR_BUFFER_SIZE = 256;
 
-    public GlobalExceptionHandler(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    private final ObjectWriter errorWriter;
+    private final LogSampler logSampler;
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper, LogSampler logSampler) {
+        this.errorWriter = objectMapper.writerFor(ErrorResponseDTO.class);
+        this.logSampler = logSampler;
     }
 
     @Override
     public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
         ServerHttpResponse response = exchange.getResponse();
-        ServerRequest request = ServerRequest.create(exchange, HandlerStrategies.withDefaults().messageReaders());
 
         if (response.isCommitted()) {
             return Mono.error(ex);
         }
 
-        log.error("🚨 Exception caught: {} - Message: {}", ex.getClass().getSimpleName(), ex.getMessage(), ex);
-        
         ErrorInfo errorInfo = determineError(ex);
+        logException(ex, errorInfo);
 
         ErrorResponseDTO errorResponse = ErrorResponseDTO.of(
                 errorInfo.code(),
                 errorInfo.message(),
-                request.path()
+                exchange.getRequest().getPath().value()
         );
 
         response.setStatusCode(errorInfo.status());
         response.getHeaders().add("Content-Type", "application/json");
+        Duration retryAfter = retryAfter(ex);
+        if (retryAfter != null) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, RateLimitExceededException.retryAfterSeconds(retryAfter));
+        }
 
-        DataBuffer buffer = response.bufferFactory().wrap(serializeError(errorResponse));
-        return response.writeWith(Mono.just(buffer));
+        return response.writeWith(Mono.just(serializeError(response.bufferFactory(), errorResponse)));
     }
 
     private ErrorInfo determineError(Throwable ex) {
@@ -82,22 +96,71 @@ public class GlobalExceptionHandler implements WebExceptionHandler {
                     new ErrorInfo(HttpStatus.METHOD_NOT_ALLOWED, "METHOD_NOT_ALLOWED", "Method not supported");
             case IllegalArgumentException e ->
                     new ErrorInfo(HttpStatus.BAD_REQUEST, "BAD_REQUEST", e.getMessage());
+            case AccessDeniedException e ->
+                    new ErrorInfo(HttpStatus.FORBIDDEN, "ACCESS_DENIED", e.getMessage());
+            case RateLimitExceededException e ->
+                    new ErrorInfo(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", e.getMessage());
+            case RejectedExecutionException e ->
+                    new ErrorInfo(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_BUSY", "Server is busy, please retry");
 
             default ->
                     new ErrorInfo(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "An unexpected error occurred");
         };
     }
 
+    /**
+     * Unexpected failures are logged at ERROR with their stack trace. Business and
+     * client errors, and load shedding (503), are expected under normal traffic, so
+     * they are logged at INFO without stack trace and sampled under the client-error
+     * category.
+     */
+    private void logException(Throwable ex, ErrorInfo errorInfo) {
+        if (errorInfo.status().is5xxServerError() && errorInfo.status() != HttpStatus.SERVICE_UNAVAILABLE) {
+            log.atError()
+                    .setMessage("Unhandled exception")
+                    .addKeyValue("exception", ex.getClass().getSimpleName())
+                    .setCause(ex)
+                    .log();
+            return;
+        }
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        long suppressed = logSampler.tryAcquire(LogCategories.CLIENT_ERROR);
+        if (suppressed != LogSampler.DENIED) {
+            log.atInfo()
+                    .setMessage("Request rejected")
+                    .addKeyValue("code", errorInfo.code())
+                    .addKeyValue("exception", ex.getClass().getSimpleName())
+                    .addKeyValue("suppressed", suppressed)
+                    .log();
+        }
+    }
+
+    private static Duration retryAfter(Throwable ex) {
+        return switch (ex) {
+            case RateLimitExceededException e -> e.getRetryAfter();
+            default -> null;
+        };
+    }
+
     private String extractValidationMessage(WebExchangeBindException ex) {
         return ex.getBindingResult().getFieldErrors().stream()
                 .map(error -> error.getField() + ": " + error.getDefaultMessage())
                 .collect(Collectors.joining(", "));
     }
 
-    private byte[] serializeError(ErrorResponseDTO error) {
-        try {
-            return objectMapper.writeValueAsBytes(error);
+    /**
+     * Serializes with the {@link ErrorResponseDTO} writer resolved at startup straight
+     * into a buffer from the response's (pooled) factory.
+     */
+    private DataBuffer serializeError(DataBufferFactory bufferFactory, ErrorResponseDTO error) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(ERROR_BUFFER_SIZE);
+        try (OutputStream out = buffer.asOutputStream()) {
+            errorWriter.writeValue(out, error);
+            return buffer;
         } catch (Exception e) {
+            DataBufferUtils.release(buffer);
 
             //Fallback
             String fallback = """
@@ -107,7 +170,7 @@ public class GlobalExceptionHandler implements WebExceptionHandler {
                     "timestamp": "%s"
                 }
                 """.formatted(LocalDateTime.now());
-            return fallback.getBytes(StandardCharsets.UTF_8);
+            return bufferFactory.wrap(fallback.getBytes(StandardCharsets.UTF_8));
         }
     }
 
@@ -0,0 +1,42 @@
+package co.com.authservice.api.config;
+
+import co.com.authservice.api.http.TypeCachingJackson2JsonDecoder;
+import co.com.authservice.api.http.TypeCachingJackson2JsonEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+public class JacksonCodecConfig {
+
+    /**
+     * Installs Blackbird on the Boot-configured mappers. Blackbird defines accessor classes
+     * at runtime, which a native image cannot do, so it is skipped there.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer blackbirdCustomizer() {
+        return builder -> {
+            if (!NativeDetector.inNativeImage()) {
+                builder.postConfigurer(objectMapper -> objectMapper.registerModule(new BlackbirdModule()));
+            }
+        };
+    }
+
+    /**
+     * Ordered after Boot's own Jackson codec customizer (order 0) so these replace the
+     * default JSON encoder and decoder.
+     */
+    @Bean
+    @Order(1)
+    public CodecCustomizer typeCachingJacksonCodecCustomizer(ObjectMapper objectMapper) {
+        return configurer -> {
+            configurer.defaultCodecs().jackson2JsonEncoder(new TypeCachingJackson2JsonEncoder(objectMapper));
+            configurer.defaultCodecs().jackson2JsonDecoder(new TypeCachingJackson2JsonDecoder(objectMapper));
+        };
+    }
+}
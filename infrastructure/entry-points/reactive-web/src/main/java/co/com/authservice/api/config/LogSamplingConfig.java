@@ -0,0 +1,15 @@
+package co.com.authservice.api.config;
+
+import co.com.authservice.api.logging.LogSampler;
+import co.com.authservice.api.logging.LogSamplingProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LogSamplingConfig {
+
+    @Bean
+    public LogSampler logSampler(LogSamplingProperties properties) {
+        return new LogSampler(properties.defaultPermits(), properties.permits(), properties.window());
+    }
+}
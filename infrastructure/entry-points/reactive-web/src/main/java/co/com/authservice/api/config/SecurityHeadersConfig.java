@@ -7,6 +7,10 @@ import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
+/**
+ * Adds the security headers to every response. {@code Cache-Control: no-store} is the
+ * default and is only applied when the handler did not choose a caching policy itself.
+ */
 @Component
 public class SecurityHeadersConfig implements WebFilter {
 
@@ -17,9 +21,14 @@ public class SecurityHeadersConfig implements WebFilter {
         headers.set("Strict-Transport-Security", "max-age=31536000;");
         headers.set("X-Content-Type-Options", "nosniff");
         headers.set("Server", "");
-        headers.set("Cache-Control", "no-store");
-        headers.set("Pragma", "no-cache");
         headers.set("Referrer-Policy", "strict-origin-when-cross-origin");
+        exchange.getResponse().beforeCommit(() -> {
+            if (!headers.containsKey(HttpHeaders.CACHE_CONTROL)) {
+                headers.set(HttpHeaders.CACHE_CONTROL, "no-store");
+                headers.set(HttpHeaders.PRAGMA, "no-cache");
+            }
+            return Mono.empty();
+        });
         return chain.filter(exchange);
     }
 }
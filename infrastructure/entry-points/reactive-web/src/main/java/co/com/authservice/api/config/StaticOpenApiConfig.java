@@ -0,0 +1,63 @@
+package co.com.authservice.api.config;
+
+import co.com.authservice.api.http.CacheableResponseWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Serves the OpenAPI document generated at build time when springdoc is disabled, as in
+ * the {@code prod} profile. Nothing is scanned at startup: the file packaged by
+ * {@code ./gradlew :app-service:bootJar -PbundleOpenApiDocs} is read once and served with
+ * an ETag from memory. A jar built without it answers 404.
+ *
+ * <p>The document is looked up at runtime rather than through a condition so the
+ * decision is not frozen into the AOT-generated context.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "false")
+public class StaticOpenApiConfig {
+
+    static final String LOCATION = "openapi/authservice-openapi.json";
+    static final String PATH = "/v3/api-docs";
+
+    @Bean
+    public RouterFunction<ServerResponse> staticOpenApiRoute(CacheableResponseWriter responseWriter) {
+        return staticOpenApiRoute(new ClassPathResource(LOCATION), responseWriter);
+    }
+
+    static RouterFunction<ServerResponse> staticOpenApiRoute(Resource document, CacheableResponseWriter responseWriter) {
+        if (!document.exists()) {
+            log.atWarn()
+                    .setMessage("springdoc is disabled and no OpenAPI document was packaged; the path answers 404")
+                    .addKeyValue("path", PATH)
+                    .log();
+            return route(GET(PATH), request -> ServerResponse.notFound().build());
+        }
+        byte[] json = read(document);
+        String eTag = CacheableResponseWriter.eTagOf(json);
+        return route(GET(PATH), request -> responseWriter.ok(request, json, eTag, CacheControl.noCache()));
+    }
+
+    private static byte[] read(Resource document) {
+        try (InputStream in = document.getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the OpenAPI document " + document, e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package co.com.authservice.api.http;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Writes responses in the {@link ResponseFormat} negotiated from {@code Accept}, with a
+ * weak ETag derived from the serialized body on read responses.
+ *
+ * <p>The body is serialized once, the ETag is the first 128 bits of its SHA-256, and a
+ * request whose {@code If-None-Match} already names that ETag gets an empty 304. The
+ * ETag is weak because the server may send the body gzip or Brotli encoded (see
+ * {@code server.compression}), and those bytes differ from the identity encoding a
+ * strong ETag would vouch for.
+ * The serialized bytes are written as-is so the codec does not encode the body a
+ * second time. Negotiated responses carry {@code Vary: Accept} because the bytes and
+ * ETag differ per representation.</p>
+ */
+@Component
+public class CacheableResponseWriter {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final int ETAG_BYTES = 16;
+
+    private final DtoCodecs codecs;
+
+    public CacheableResponseWriter(DtoCodecs codecs) {
+        this.codecs = codecs;
+    }
+
+    public Mono<ServerResponse> ok(ServerRequest request, Object body, CacheControl cacheControl) {
+        ResponseFormat format = codecs.negotiate(request, body);
+        byte[] content;
+        try {
+            content = codecs.encode(body, format);
+        } catch (IOException e) {
+            return Mono.error(e);
+        }
+        return ok(request, content, eTagOf(content), format.mediaType(), true, cacheControl);
+    }
+
+    /**
+     * Writes an already serialized JSON body, e.g. one kept in memory with its ETag.
+     */
+    public Mono<ServerResponse> ok(ServerRequest request, byte[] json, String eTag, CacheControl cacheControl) {
+        return ok(request, json, eTag, MediaType.APPLICATION_JSON, false, cacheControl);
+    }
+
+    /**
+     * Writes {@code body} in the negotiated format without validators, for responses
+     * that are never cached such as login and user creation. With no ETag to compute up
+     * front, the body is encoded at write time directly into a response buffer.
+     */
+    public Mono<ServerResponse> write(ServerRequest request, Object body) {
+        ResponseFormat format = codecs.negotiate(request, body);
+        return ServerResponse.ok()
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .body((message, context) -> message.writeWith(
+                        Mono.fromCallable(() -> codecs.encode(body, format, message.bufferFactory()))));
+    }
+
+    private Mono<ServerResponse> ok(ServerRequest request, byte[] content, String eTag, MediaType mediaType,
+                                    boolean negotiated, CacheControl cacheControl) {
+        if (isNotModified(request.headers().header(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            ServerResponse.BodyBuilder notModified = ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl);
+            if (negotiated) {
+                notModified.header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+            return notModified.build();
+        }
+        ServerResponse.BodyBuilder response = ServerResponse.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(mediaType);
+        if (negotiated) {
+            response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return response.bodyValue(content);
+    }
+
+    public static String eTagOf(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return WEAK_PREFIX + "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    Arrays.copyOf(digest, ETAG_BYTES)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * {@code If-None-Match} uses the weak comparison (RFC 9110 13.1.2), so the tags match
+     * whether or not either side carries the {@code W/} prefix.
+     */
+    static boolean isNotModified(List<String> ifNoneMatch, String eTag) {
+        String opaque = opaqueTag(eTag);
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                String tag = opaqueTag(candidate.trim());
+                if (ANY.equals(tag) || opaque.equals(tag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -0,0 +1,93 @@
+package co.com.authservice.api.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encoders for the {@link ResponseFormat}s.
+ *
+ * <p>JSON uses the application {@link ObjectMapper}. CBOR uses a mapper built from the
+ * same Spring Boot Jackson configuration over a {@link CBORFactory}, so dates, naming
+ * and inclusion rules are identical. The {@link ObjectWriter} and {@link ObjectReader}
+ * for each type are resolved once and reused. Protobuf is delegated to
+ * {@link ProtobufDtoCodec}.</p>
+ */
+@Component
+public class DtoCodecs {
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final Map<Class<?>, ObjectWriter> jsonWriters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> cborWriters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> jsonReaders = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> cborReaders = new ConcurrentHashMap<>();
+
+    public DtoCodecs(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder mapperBuilder) {
+        this.jsonMapper = objectMapper;
+        this.cborMapper = mapperBuilder.factory(new CBORFactory()).build();
+    }
+
+    public ResponseFormat negotiate(ServerRequest request, Object body) {
+        return ResponseFormat.negotiate(request.headers().accept(), body);
+    }
+
+    public byte[] encode(Object body, ResponseFormat format) throws IOException {
+        return switch (format) {
+            case JSON -> writerFor(jsonWriters, jsonMapper, body.getClass()).writeValueAsBytes(body);
+            case CBOR -> writerFor(cborWriters, cborMapper, body.getClass()).writeValueAsBytes(body);
+            case PROTOBUF -> ProtobufDtoCodec.encode(body);
+        };
+    }
+
+    /**
+     * Encodes {@code body} directly into a buffer from {@code bufferFactory}, which is the
+     * pooled Netty allocator when writing to a response.
+     */
+    public DataBuffer encode(Object body, ResponseFormat format, DataBufferFactory bufferFactory) throws IOException {
+        if (format == ResponseFormat.PROTOBUF) {
+            return ProtobufDtoCodec.encode(body, bufferFactory);
+        }
+        ObjectWriter writer = format == ResponseFormat.JSON
+                ? writerFor(jsonWriters, jsonMapper, body.getClass())
+                : writerFor(cborWriters, cborMapper, body.getClass());
+        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+        try (OutputStream out = buffer.asOutputStream()) {
+            writer.writeValue(out, body);
+            return buffer;
+        } catch (IOException | RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
+
+    public <T> T decode(byte[] content, ResponseFormat format, Class<T> type) throws IOException {
+        return switch (format) {
+            case JSON -> readerFor(jsonReaders, jsonMapper, type).readValue(content);
+            case CBOR -> readerFor(cborReaders, cborMapper, type).readValue(content);
+            case PROTOBUF -> ProtobufDtoCodec.decode(content, type);
+        };
+    }
+
+    private static ObjectWriter writerFor(Map<Class<?>, ObjectWriter> writers, ObjectMapper mapper, Class<?> type) {
+        return writers.computeIfAbsent(type, mapper::writerFor);
+    }
+
+    private static ObjectReader readerFor(Map<Class<?>, ObjectReader> readers, ObjectMapper mapper, Class<?> type) {
+        return readers.computeIfAbsent(type, mapper::readerFor);
+    }
+}
@@ -0,0 +1,403 @@
+package co.com.authservice.api.http;
+
+import co.com.authservice.api.dto.response.LoginResponseDTO;
+import co.com.authservice.api.dto.response.RoleResponseDTO;
+import co.com.authservice.api.dto.response.UserResponseDTO;
+import co.com.authservice.api.dto.response.UserSummaryDTO;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Protocol Buffers encoding of the response DTOs, written by hand against
+ * {@code proto/authservice_responses.proto} instead of generated message classes.
+ *
+ * <p>The records are encoded straight from their accessors, so there is no copy into
+ * an intermediate message object and no reflection. Message sizes are computed up
+ * front and the output array is allocated once. The text forms of a user's date and
+ * salary are built once per encoding and shared by the size and write passes. {@code null} components are left out
+ * of the message, and the decoders map absent fields back to {@code null}.</p>
+ */
+public final class ProtobufDtoCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-protobuf";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private ProtobufDtoCodec() {
+    }
+
+    /**
+     * Whether {@code body} has a protobuf mapping: one of the response DTOs or a list of
+     * {@link UserResponseDTO}.
+     */
+    public static boolean supports(Object body) {
+        if (body instanceof UserResponseDTO || body instanceof LoginResponseDTO
+                || body instanceof UserSummaryDTO || body instanceof RoleResponseDTO) {
+            return true;
+        }
+        if (body instanceof List<?> list) {
+            for (Object element : list) {
+                if (!(element instanceof UserResponseDTO)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public static byte[] encode(Object body) {
+        Encoding encoding = encoding(body);
+        byte[] content = new byte[encoding.size()];
+        CodedOutputStream out = CodedOutputStream.newInstance(content);
+        try {
+            encoding.writer().write(out);
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode protobuf message", e);
+        }
+        return content;
+    }
+
+    /**
+     * Encodes {@code body} straight into a buffer of the exact message size, without an
+     * intermediate array when the buffer exposes a single writable {@link ByteBuffer}.
+     */
+    public static DataBuffer encode(Object body, DataBufferFactory bufferFactory) {
+        Encoding encoding = encoding(body);
+        int size = encoding.size();
+        DataBuffer buffer = bufferFactory.allocateBuffer(size);
+        try {
+            boolean written = false;
+            try (DataBuffer.ByteBufferIterator targets = buffer.writableByteBuffers()) {
+                if (targets.hasNext()) {
+                    ByteBuffer target = targets.next();
+                    if (target.remaining() >= size) {
+                        CodedOutputStream out = CodedOutputStream.newInstance(target);
+                        encoding.writer().write(out);
+                        out.flush();
+                        written = true;
+                    }
+                }
+            }
+            if (written) {
+                buffer.writePosition(buffer.writePosition() + size);
+            } else {
+                buffer.write(encode(body));
+            }
+            return buffer;
+        } catch (IOException e) {
+            DataBufferUtils.release(buffer);
+            throw new IllegalStateException("Could not encode protobuf message", e);
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
+
+    public static <T> T decode(byte[] content, Class<T> type) {
+        Reader<?> reader;
+        if (type == UserResponseDTO.class) {
+            reader = ProtobufDtoCodec::readUser;
+        } else if (type == LoginResponseDTO.class) {
+            reader = ProtobufDtoCodec::readLogin;
+        } else if (type == UserSummaryDTO.class) {
+            reader = ProtobufDtoCodec::readSummary;
+        } else if (type == RoleResponseDTO.class) {
+            reader = ProtobufDtoCodec::readRole;
+        } else {
+            throw new IllegalArgumentException("No protobuf mapping for " + type.getName());
+        }
+        return type.cast(read(content, reader));
+    }
+
+    public static List<UserResponseDTO> decodeUsers(byte[] content) {
+        return read(content, ProtobufDtoCodec::readUserList);
+    }
+
+    private static Encoding encoding(Object body) {
+        return switch (body) {
+            case UserResponseDTO user -> {
+                PreparedUser prepared = prepareUser(user);
+                yield new Encoding(prepared.size(), out -> writeUser(out, prepared));
+            }
+            case LoginResponseDTO login -> new Encoding(loginSize(login), out -> writeLogin(out, login));
+            case UserSummaryDTO summary -> new Encoding(summarySize(summary), out -> writeSummary(out, summary));
+            case RoleResponseDTO role -> new Encoding(roleSize(role), out -> writeRole(out, role));
+            case List<?> users when supports(users) -> {
+                PreparedUser[] prepared = prepareUsers(users);
+                yield new Encoding(userListSize(prepared), out -> writeUserList(out, prepared));
+            }
+            default -> throw new IllegalArgumentException("No protobuf mapping for " + body.getClass().getName());
+        };
+    }
+
+    private static int roleSize(RoleResponseDTO role) {
+        return int64Size(1, role.id())
+                + stringSize(2, role.name())
+                + stringSize(3, role.description());
+    }
+
+    private static PreparedUser prepareUser(UserResponseDTO user) {
+        String birthdayDate = user.birthdayDate() != null ? user.birthdayDate().toString() : null;
+        String baseSalary = user.baseSalary() != null ? user.baseSalary().toPlainString() : null;
+        int size = int64Size(1, user.id())
+                + stringSize(2, user.documentNumber())
+                + stringSize(3, user.name())
+                + stringSize(4, user.lastname())
+                + stringSize(5, birthdayDate)
+                + stringSize(6, user.address())
+                + stringSize(7, user.phoneNumber())
+                + stringSize(8, baseSalary)
+                + stringSize(9, user.email())
+                + (user.role() != null ? messageSize(10, roleSize(user.role())) : 0);
+        return new PreparedUser(user, birthdayDate, baseSalary, size);
+    }
+
+    private static PreparedUser[] prepareUsers(List<?> users) {
+        PreparedUser[] prepared = new PreparedUser[users.size()];
+        int i = 0;
+        for (Object user : users) {
+            prepared[i++] = prepareUser((UserResponseDTO) user);
+        }
+        return prepared;
+    }
+
+    private static int userListSize(PreparedUser[] users) {
+        int size = 0;
+        for (PreparedUser user : users) {
+            size += messageSize(1, user.size());
+        }
+        return size;
+    }
+
+    private static int summarySize(UserSummaryDTO summary) {
+        return int64Size(1, summary.id())
+                + stringSize(2, summary.fullName())
+                + stringSize(3, summary.email())
+                + (summary.role() != null ? messageSize(4, roleSize(summary.role())) : 0);
+    }
+
+    private static int loginSize(LoginResponseDTO login) {
+        return stringSize(1, login.accessToken())
+                + int64Size(2, login.expiresIn())
+                + (login.user() != null ? messageSize(3, summarySize(login.user())) : 0);
+    }
+
+    private static void writeRole(CodedOutputStream out, RoleResponseDTO role) throws IOException {
+        writeInt64(out, 1, role.id());
+        writeString(out, 2, role.name());
+        writeString(out, 3, role.description());
+    }
+
+    private static void writeUser(CodedOutputStream out, PreparedUser prepared) throws IOException {
+        UserResponseDTO user = prepared.user();
+        writeInt64(out, 1, user.id());
+        writeString(out, 2, user.documentNumber());
+        writeString(out, 3, user.name());
+        writeString(out, 4, user.lastname());
+        writeString(out, 5, prepared.birthdayDate());
+        writeString(out, 6, user.address());
+        writeString(out, 7, user.phoneNumber());
+        writeString(out, 8, prepared.baseSalary());
+        writeString(out, 9, user.email());
+        if (user.role() != null) {
+            writeMessageHeader(out, 10, roleSize(user.role()));
+            writeRole(out, user.role());
+        }
+    }
+
+    private static void writeUserList(CodedOutputStream out, PreparedUser[] users) throws IOException {
+        for (PreparedUser user : users) {
+            writeMessageHeader(out, 1, user.size());
+            writeUser(out, user);
+        }
+    }
+
+    private static void writeSummary(CodedOutputStream out, UserSummaryDTO summary) throws IOException {
+        writeInt64(out, 1, summary.id());
+        writeString(out, 2, summary.fullName());
+        writeString(out, 3, summary.email());
+        if (summary.role() != null) {
+            writeMessageHeader(out, 4, roleSize(summary.role()));
+            writeRole(out, summary.role());
+        }
+    }
+
+    private static void writeLogin(CodedOutputStream out, LoginResponseDTO login) throws IOException {
+        writeString(out, 1, login.accessToken());
+        writeInt64(out, 2, login.expiresIn());
+        if (login.user() != null) {
+            writeMessageHeader(out, 3, summarySize(login.user()));
+            writeSummary(out, login.user());
+        }
+    }
+
+    private static RoleResponseDTO readRole(CodedInputStream in) throws IOException {
+        Long id = null;
+        String name = null;
+        String description = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> id = in.readInt64();
+                case 2 -> name = in.readStringRequireUtf8();
+                case 3 -> description = in.readStringRequireUtf8();
+                default -> in.skipField(tag);
+            }
+        }
+        return new RoleResponseDTO(id, name, description);
+    }
+
+    private static UserResponseDTO readUser(CodedInputStream in) throws IOException {
+        Long id = null;
+        String documentNumber = null;
+        String name = null;
+        String lastname = null;
+        LocalDate birthdayDate = null;
+        String address = null;
+        String phoneNumber = null;
+        BigDecimal baseSalary = null;
+        String email = null;
+        RoleResponseDTO role = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> id = in.readInt64();
+                case 2 -> documentNumber = in.readStringRequireUtf8();
+                case 3 -> name = in.readStringRequireUtf8();
+                case 4 -> lastname = in.readStringRequireUtf8();
+                case 5 -> birthdayDate = LocalDate.parse(in.readStringRequireUtf8());
+                case 6 -> address = in.readStringRequireUtf8();
+                case 7 -> phoneNumber = in.readStringRequireUtf8();
+                case 8 -> baseSalary = new BigDecimal(in.readStringRequireUtf8());
+                case 9 -> email = in.readStringRequireUtf8();
+                case 10 -> role = readMessage(in, ProtobufDtoCodec::readRole);
+                default -> in.skipField(tag);
+            }
+        }
+        return new UserResponseDTO(id, documentNumber, name, lastname, birthdayDate, address, phoneNumber,
+                baseSalary, email, role);
+    }
+
+    private static List<UserResponseDTO> readUserList(CodedInputStream in) throws IOException {
+        List<UserResponseDTO> users = new ArrayList<>();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == 1) {
+                users.add(readMessage(in, ProtobufDtoCodec::readUser));
+            } else {
+                in.skipField(tag);
+            }
+        }
+        return users;
+    }
+
+    private static UserSummaryDTO readSummary(CodedInputStream in) throws IOException {
+        Long id = null;
+        String fullName = null;
+        String email = null;
+        RoleResponseDTO role = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> id = in.readInt64();
+                case 2 -> fullName = in.readStringRequireUtf8();
+                case 3 -> email = in.readStringRequireUtf8();
+                case 4 -> role = readMessage(in, ProtobufDtoCodec::readRole);
+                default -> in.skipField(tag);
+            }
+        }
+        return new UserSummaryDTO(id, fullName, email, role);
+    }
+
+    private static LoginResponseDTO readLogin(CodedInputStream in) throws IOException {
+        String accessToken = null;
+        Long expiresIn = null;
+        UserSummaryDTO user = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> accessToken = in.readStringRequireUtf8();
+                case 2 -> expiresIn = in.readInt64();
+                case 3 -> user = readMessage(in, ProtobufDtoCodec::readSummary);
+                default -> in.skipField(tag);
+            }
+        }
+        return new LoginResponseDTO(accessToken, expiresIn, user);
+    }
+
+    private static int int64Size(int field, Long value) {
+        return value != null ? CodedOutputStream.computeInt64Size(field, value) : 0;
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+
+    private static int messageSize(int field, int size) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    private static void writeInt64(CodedOutputStream out, int field, Long value) throws IOException {
+        if (value != null) {
+            out.writeInt64(field, value);
+        }
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static void writeMessageHeader(CodedOutputStream out, int field, int size) throws IOException {
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(size);
+    }
+
+    private static <T> T read(byte[] content, Reader<T> reader) {
+        try {
+            return reader.read(CodedInputStream.newInstance(content));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed protobuf message", e);
+        }
+    }
+
+    private static <T> T readMessage(CodedInputStream in, Reader<T> reader) throws IOException {
+        int limit = in.pushLimit(in.readRawVarint32());
+        T message = reader.read(in);
+        in.popLimit(limit);
+        return message;
+    }
+
+    private record Encoding(int size, Writer writer) {
+    }
+
+    /**
+     * A user with the text forms of its date and salary, and its encoded size.
+     */
+    private record PreparedUser(UserResponseDTO user, String birthdayDate, String baseSalary, int size) {
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(CodedOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(CodedInputStream in) throws IOException;
+    }
+}
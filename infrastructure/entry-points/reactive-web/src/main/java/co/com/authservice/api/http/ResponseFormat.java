@@ -0,0 +1,75 @@
+package co.com.authservice.api.http;
+
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Representations the read and login endpoints can answer with.
+ *
+ * <p>JSON stays the default for browsers and anything without an {@code Accept}
+ * header. Internal consumers can ask for {@code application/cbor} or
+ * {@code application/x-protobuf} to skip text parsing.</p>
+ */
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    PROTOBUF(ProtobufDtoCodec.MEDIA_TYPE);
+
+    private static final ResponseFormat[] VALUES = values();
+
+    private final MediaType mediaType;
+
+    ResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Media types for the {@code accept(...)} route predicates.
+     */
+    public static MediaType[] mediaTypes() {
+        MediaType[] mediaTypes = new MediaType[VALUES.length];
+        for (int i = 0; i < VALUES.length; i++) {
+            mediaTypes[i] = VALUES[i].mediaType;
+        }
+        return mediaTypes;
+    }
+
+    /**
+     * Picks the representation for {@code body} from the {@code Accept} header.
+     *
+     * <p>Media ranges are tried by descending quality, keeping header order on ties;
+     * wildcards resolve to JSON. Protobuf is only chosen for bodies with a mapping in
+     * {@link ProtobufDtoCodec}, and anything that matches nothing falls back to JSON
+     * rather than failing with 406.</p>
+     */
+    public static ResponseFormat negotiate(List<MediaType> accept, Object body) {
+        if (accept.isEmpty()) {
+            return JSON;
+        }
+        List<MediaType> ranked = new ArrayList<>(accept);
+        ranked.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType range : ranked) {
+            if (range.getQualityValue() == 0) {
+                break;
+            }
+            for (ResponseFormat format : VALUES) {
+                if (range.includes(format.mediaType) && format.canWrite(body)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+
+    private boolean canWrite(Object body) {
+        return this != PROTOBUF || ProtobufDtoCodec.supports(body);
+    }
+}
@@ -0,0 +1,136 @@
+package co.com.authservice.api.http;
+
+import co.com.authservice.api.mapper.UserDTOMapper;
+import co.com.authservice.usecase.role.RoleUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pre-encoded JSON of the public role catalog and its ETag.
+ *
+ * <p>{@code GET /api/v1/roles} is served from the current {@link Payload} without
+ * touching the database or Jackson. The catalog is loaded on startup and re-read every
+ * {@code runtime.roles-payload.refresh-interval}; a re-read that produces the same
+ * bytes keeps the existing payload, so the ETag only changes when the roles do.
+ * {@link #refresh()} can be called to pick up a change immediately.</p>
+ *
+ * <p>Only one load runs at a time: callers that ask while a load is in flight, such as
+ * a burst of requests arriving before the first load completes, share its result
+ * instead of each querying the database.</p>
+ */
+@Slf4j
+@Component
+public class RolesPayloadCache implements SmartLifecycle {
+
+    public record Payload(byte[] json, String eTag) {
+    }
+
+    private final RoleUseCase roleUseCase;
+    private final UserDTOMapper userDTOMapper;
+    private final ObjectMapper objectMapper;
+    private final RolesPayloadProperties properties;
+    private final AtomicReference<Mono<Payload>> inFlight = new AtomicReference<>();
+    private volatile Payload current;
+    private volatile Disposable refresher;
+
+    public RolesPayloadCache(RoleUseCase roleUseCase, UserDTOMapper userDTOMapper, ObjectMapper objectMapper,
+                             RolesPayloadProperties properties) {
+        this.roleUseCase = roleUseCase;
+        this.userDTOMapper = userDTOMapper;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * The loaded payload, or {@code null} until the first load has completed.
+     */
+    public Payload current() {
+        return current;
+    }
+
+    public Mono<Payload> payload() {
+        Payload payload = current;
+        return payload != null ? Mono.just(payload) : refresh();
+    }
+
+    public Mono<Payload> refresh() {
+        return Mono.defer(() -> {
+            Mono<Payload> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            Mono<Payload> load = load().share();
+            if (!inFlight.compareAndSet(null, load)) {
+                return refresh();
+            }
+            return load.doFinally(signal -> inFlight.compareAndSet(load, null));
+        });
+    }
+
+    private Mono<Payload> load() {
+        return roleUseCase.getAllRoles()
+                .map(userDTOMapper::toResponse)
+                .collectList()
+                .map(roles -> {
+                    try {
+                        return objectMapper.writeValueAsBytes(roles);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Could not serialize roles", e);
+                    }
+                })
+                .map(this::swap);
+    }
+
+    private synchronized Payload swap(byte[] json) {
+        Payload previous = current;
+        if (previous != null && Arrays.equals(previous.json(), json)) {
+            return previous;
+        }
+        Payload next = new Payload(json, CacheableResponseWriter.eTagOf(json));
+        current = next;
+        log.atInfo()
+                .setMessage("Roles payload updated")
+                .addKeyValue("bytes", json.length)
+                .addKeyValue("eTag", next.eTag())
+                .log();
+        return next;
+    }
+
+    @Override
+    public void start() {
+        refresher = Flux.interval(Duration.ZERO, properties.refreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(error -> {
+                            log.atWarn()
+                                    .setMessage("Roles payload refresh failed")
+                                    .addKeyValue("exception", error.getClass().getSimpleName())
+                                    .log();
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable disposable = refresher;
+        if (disposable != null) {
+            disposable.dispose();
+            refresher = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return refresher != null;
+    }
+}
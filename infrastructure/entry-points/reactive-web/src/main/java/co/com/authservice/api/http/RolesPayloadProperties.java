@@ -0,0 +1,20 @@
+package co.com.authservice.api.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param refreshInterval how often the role catalog is re-read to pick up changes made
+ *                        directly in the database; the payload is only replaced when
+ *                        its content actually changed
+ */
+@ConfigurationProperties(prefix = "runtime.roles-payload")
+public record RolesPayloadProperties(Duration refreshInterval) {
+
+    public RolesPayloadProperties {
+        if (refreshInterval == null) {
+            refreshInterval = Duration.ofMinutes(5);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.authservice.api.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Jackson2JsonDecoder} that reuses one {@link ObjectReader} per target type for
+ * request bodies such as {@code CreateUserDTO} and {@code LoginRequestDTO}.
+ *
+ * <p>Failures are mapped to the same {@link DecodingException} / {@link CodecException}
+ * the default decoder raises, so {@code GlobalExceptionHandler} still answers
+ * {@code INVALID_JSON}. Targets with a JSON view hint or a non-UTF-8 charset go through
+ * the default path.</p>
+ */
+public class TypeCachingJackson2JsonDecoder extends Jackson2JsonDecoder {
+
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public TypeCachingJackson2JsonDecoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object decode(DataBuffer dataBuffer, ResolvableType targetType, @Nullable MimeType mimeType,
+                         @Nullable Map<String, Object> hints) throws DecodingException {
+        if ((hints != null && hints.containsKey(JSON_VIEW_HINT)) || !isUtf8(mimeType)) {
+            return super.decode(dataBuffer, targetType, mimeType, hints);
+        }
+        ObjectReader reader = readers.computeIfAbsent(targetType.getType(),
+                type -> getObjectMapper().readerFor(getObjectMapper().constructType(type)));
+        try (InputStream in = dataBuffer.asInputStream()) {
+            return reader.readValue(in);
+        } catch (InvalidDefinitionException e) {
+            throw new CodecException("Type definition error: " + e.getType(), e);
+        } catch (JsonProcessingException e) {
+            throw new DecodingException("JSON decoding error: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new DecodingException("I/O error while parsing input stream", e);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+
+    private static boolean isUtf8(@Nullable MimeType mimeType) {
+        return mimeType == null || mimeType.getCharset() == null
+                || StandardCharsets.UTF_8.equals(mimeType.getCharset());
+    }
+}
@@ -0,0 +1,82 @@
+package co.com.authservice.api.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Jackson2JsonEncoder} that reuses one {@link ObjectWriter} per value type and
+ * serializes straight into a buffer from the response's factory.
+ *
+ * <p>The default encoder resolves a new writer for every value and builds the JSON in
+ * a {@code ByteArrayBuilder} before copying it into a {@link DataBuffer}. Values with a
+ * JSON view hint or a non-UTF-8 charset still go through the default path. As in the
+ * default encoder, collections and maps are written with their declared type and
+ * everything else with its runtime class.</p>
+ */
+public class TypeCachingJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public TypeCachingJackson2JsonEncoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        if ((hints != null && hints.containsKey(JSON_VIEW_HINT)) || !isUtf8(mimeType)) {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+        ObjectWriter writer = writers.computeIfAbsent(rootType(value, valueType),
+                type -> getObjectMapper().writerFor(getObjectMapper().constructType(type)));
+        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+        try (OutputStream out = buffer.asOutputStream()) {
+            writer.writeValue(out, value);
+            return buffer;
+        } catch (InvalidDefinitionException e) {
+            DataBufferUtils.release(buffer);
+            throw new CodecException("Type definition error: " + e.getType(), e);
+        } catch (JsonProcessingException e) {
+            DataBufferUtils.release(buffer);
+            throw new EncodingException("JSON encoding error: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            DataBufferUtils.release(buffer);
+            throw new IllegalStateException("Unexpected I/O error while writing to data buffer", e);
+        }
+    }
+
+    private static Type rootType(Object value, ResolvableType valueType) {
+        Class<?> declared = valueType.toClass();
+        if (Collection.class.isAssignableFrom(declared) || Map.class.isAssignableFrom(declared)
+                || declared.isArray()) {
+            return valueType.getType();
+        }
+        return value.getClass();
+    }
+
+    private static boolean isUtf8(@Nullable MimeType mimeType) {
+        return mimeType == null || mimeType.getCharset() == null
+                || StandardCharsets.UTF_8.equals(mimeType.getCharset());
+    }
+}
@@ -0,0 +1,230 @@
+package co.com.authservice.api.lockout;
+
+import co.com.authservice.model.lockout.LoginFailure;
+import co.com.authservice.api.security.VerifiedTokenCache;
+import co.com.authservice.model.lockout.gateways.LoginFailureRepository;
+import co.com.authservice.model.user.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts failed logins per account and locks the account for
+ * {@code security.lockout.duration} after {@code security.lockout.max-failures} of them.
+ *
+ * <p>Failures are recorded in memory only. Changed accounts are marked dirty and written
+ * to {@code users.failed_login_attempts}/{@code users.locked_until} in batches every
+ * {@code security.lockout.flush-interval}, and once more on shutdown, so a failed login
+ * never waits for a database write. Written entries are dropped from memory unless they
+ * are still locked; the next login reads the persisted state with the user row, which
+ * also carries lockouts set by other instances. A successful login only causes a write
+ * when it clears previous failures.</p>
+ *
+ * <p>Attempts against a locked account are rejected like a wrong password, after the
+ * same amount of hashing, so the lock is not visible to the caller. Locking an account also drops its tokens
+ * from the {@link VerifiedTokenCache}, so requests bearing them are checked against the
+ * lock again instead of being served from the cache.</p>
+ */
+@Slf4j
+@Component
+public class AccountLockout implements SmartLifecycle {
+
+    private final LockoutProperties properties;
+    private final LoginFailureRepository repository;
+    private final VerifiedTokenCache tokenCache;
+    private final Clock clock;
+    private final ConcurrentHashMap<Long, LoginFailure> failures = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Counter lockouts;
+    private final Counter rejected;
+    private volatile Disposable flusher;
+
+    @Autowired
+    public AccountLockout(LockoutProperties properties, LoginFailureRepository repository,
+                          VerifiedTokenCache tokenCache, MeterRegistry registry) {
+        this(properties, repository, tokenCache, registry, Clock.systemUTC());
+    }
+
+    AccountLockout(LockoutProperties properties, LoginFailureRepository repository, VerifiedTokenCache tokenCache,
+                   MeterRegistry registry, Clock clock) {
+        this.properties = properties;
+        this.repository = repository;
+        this.tokenCache = tokenCache;
+        this.clock = clock;
+        this.lockouts = Counter.builder("authservice.lockout.locked").register(registry);
+        this.rejected = Counter.builder("authservice.lockout.rejected").register(registry);
+        Gauge.builder("authservice.lockout.pending", dirty, Set::size).register(registry);
+    }
+
+    /**
+     * @return the remaining lockout, or {@link Duration#ZERO} when {@code user} may log in
+     */
+    public Duration lockedFor(User user) {
+        if (!properties.enabled() || user.getId() == null) {
+            return Duration.ZERO;
+        }
+        Instant now = clock.instant();
+        LoginFailure state = stateOf(user);
+        if (!state.isLockedAt(now)) {
+            return Duration.ZERO;
+        }
+        rejected.increment();
+        return Duration.between(now, state.lockedUntil());
+    }
+
+    public void recordFailure(User user) {
+        if (!properties.enabled() || user.getId() == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        LoginFailure next = failures.compute(user.getId(), (id, current) -> {
+            LoginFailure base = current != null ? current : persisted(user);
+            int attempts = base.failedAttempts() + 1;
+            return attempts >= properties.maxFailures()
+                    ? new LoginFailure(id, 0, now.plus(properties.duration()))
+                    : new LoginFailure(id, attempts, base.lockedUntil());
+        });
+        dirty.add(user.getId());
+        if (next.failedAttempts() == 0) {
+            lockouts.increment();
+            if (user.getEmail() != null) {
+                tokenCache.invalidateSubject(user.getEmail());
+            }
+        }
+    }
+
+    public void recordSuccess(User user) {
+        if (!properties.enabled() || user.getId() == null) {
+            return;
+        }
+        LoginFailure state = stateOf(user);
+        if (state.failedAttempts() == 0 && state.lockedUntil() == null) {
+            return;
+        }
+        failures.put(user.getId(), new LoginFailure(user.getId(), 0, null));
+        dirty.add(user.getId());
+    }
+
+    /**
+     * Writes every dirty account, {@code batch-size} accounts per statement. Accounts
+     * whose batch fails are marked dirty again and retried on the next flush.
+     */
+    Mono<Void> flush() {
+        return Flux.defer(() -> Flux.fromIterable(drainDirty()))
+                .concatMap(batch -> repository.saveAll(batch)
+                        .onErrorResume(error -> {
+                            batch.forEach(state -> dirty.add(state.userId()));
+                            log.atWarn()
+                                    .setMessage("Login failures flush failed")
+                                    .addKeyValue("accounts", batch.size())
+                                    .addKeyValue("exception", error.getClass().getSimpleName())
+                                    .log();
+                            return Mono.empty();
+                        }))
+                .then(Mono.fromRunnable(this::evictSettled));
+    }
+
+    int tracked() {
+        return failures.size();
+    }
+
+    private List<List<LoginFailure>> drainDirty() {
+        List<List<LoginFailure>> batches = new ArrayList<>();
+        List<LoginFailure> batch = new ArrayList<>();
+        Iterator<Long> ids = dirty.iterator();
+        while (ids.hasNext()) {
+            Long id = ids.next();
+            ids.remove();
+            LoginFailure state = failures.get(id);
+            if (state == null) {
+                continue;
+            }
+            batch.add(state);
+            if (batch.size() == properties.batchSize()) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Drops written, unlocked accounts; the persisted row now says the same thing.
+     */
+    private void evictSettled() {
+        Instant now = clock.instant();
+        failures.values().removeIf(state -> !dirty.contains(state.userId()) && !state.isLockedAt(now));
+    }
+
+    private LoginFailure stateOf(User user) {
+        LoginFailure state = failures.get(user.getId());
+        return state != null ? state : persisted(user);
+    }
+
+    private static LoginFailure persisted(User user) {
+        Integer attempts = user.getFailedLoginAttempts();
+        return new LoginFailure(user.getId(), attempts == null ? 0 : attempts, user.getLockedUntil());
+    }
+
+    @Override
+    public void start() {
+        flusher = Flux.interval(properties.flushInterval(), properties.flushInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> flush())
+                .subscribe();
+    }
+
+    /**
+     * Stops the periodic flush and writes what is still pending before the connection
+     * pool is closed.
+     */
+    @Override
+    public void stop() {
+        Disposable disposable = flusher;
+        if (disposable != null) {
+            disposable.dispose();
+            flusher = null;
+        }
+        try {
+            flush().block(Duration.ofSeconds(5));
+        } catch (RuntimeException e) {
+            log.atWarn()
+                    .setMessage("Login failures not flushed on shutdown")
+                    .addKeyValue("pending", dirty.size())
+                    .addKeyValue("exception", e.getClass().getSimpleName())
+                    .log();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    /**
+     * Stops after the web server, so failures of in-flight logins are flushed too.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,31 @@
+package co.com.authservice.api.lockout;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Temporary account lockout after repeated failed logins.
+ *
+ * @param enabled       whether failed logins are tracked at all
+ * @param maxFailures   consecutive failures that lock the account
+ * @param duration      how long the account stays locked
+ * @param flushInterval how often pending changes are written to the database
+ * @param batchSize     accounts written per batched statement
+ */
+@ConfigurationProperties(prefix = "security.lockout")
+public record LockoutProperties(
+        Boolean enabled,
+        Integer maxFailures,
+        Duration duration,
+        Duration flushInterval,
+        Integer batchSize) {
+
+    public LockoutProperties {
+        enabled = enabled == null || enabled;
+        maxFailures = maxFailures == null || maxFailures < 1 ? 5 : maxFailures;
+        duration = duration == null ? Duration.ofMinutes(15) : duration;
+        flushInterval = flushInterval == null ? Duration.ofSeconds(5) : flushInterval;
+        batchSize = batchSize == null || batchSize < 1 ? 500 : batchSize;
+    }
+}
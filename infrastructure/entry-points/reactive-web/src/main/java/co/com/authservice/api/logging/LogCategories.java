@@ -0,0 +1,11 @@
+package co.com.authservice.api.logging;
+
+public final class LogCategories {
+
+    public static final String AUTH_FAILURE = "auth-failure";
+    public static final String ACCESS_DENIED = "access-denied";
+    public static final String CLIENT_ERROR = "client-error";
+
+    private LogCategories() {
+    }
+}
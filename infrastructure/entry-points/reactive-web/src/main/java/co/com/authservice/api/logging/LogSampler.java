@@ -0,0 +1,69 @@
+package co.com.authservice.api.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-category log rate limiter.
+ *
+ * <p>Allows at most a configured number of log statements per category in each
+ * window. {@link #tryAcquire(String)} returns {@link #DENIED} when the statement must
+ * be dropped, otherwise the number of statements dropped for that category since the
+ * previous permit, so the emitted line can report what was suppressed. The check is
+ * a couple of atomic operations and never blocks.</p>
+ */
+public final class LogSampler {
+
+    public static final long DENIED = -1L;
+
+    private final int defaultPermits;
+    private final Map<String, Integer> permitsByCategory;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LogSampler(int permitsPerWindow, Duration window) {
+        this(permitsPerWindow, Map.of(), window, System::nanoTime);
+    }
+
+    public LogSampler(int defaultPermits, Map<String, Integer> permitsByCategory, Duration window) {
+        this(defaultPermits, permitsByCategory, window, System::nanoTime);
+    }
+
+    LogSampler(int defaultPermits, Map<String, Integer> permitsByCategory, Duration window, LongSupplier nanoClock) {
+        this.defaultPermits = defaultPermits;
+        this.permitsByCategory = Map.copyOf(permitsByCategory);
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public long tryAcquire(String category) {
+        Window window = windows.computeIfAbsent(category, key ->
+                new Window(permitsByCategory.getOrDefault(key, defaultPermits), nanoClock.getAsLong()));
+        long now = nanoClock.getAsLong();
+        long start = window.start.get();
+        if (now - start >= windowNanos && window.start.compareAndSet(start, now)) {
+            window.used.set(0);
+        }
+        if (window.used.incrementAndGet() > window.permits) {
+            window.suppressed.incrementAndGet();
+            return DENIED;
+        }
+        return window.suppressed.getAndSet(0);
+    }
+
+    private static final class Window {
+        private final int permits;
+        private final AtomicLong start;
+        private final AtomicLong used = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(int permits, long start) {
+            this.permits = permits;
+            this.start = new AtomicLong(start);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package co.com.authservice.api.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "observability.log-sampling")
+public record LogSamplingProperties(
+        Integer defaultPermits,
+        Map<String, Integer> permits,
+        Duration window) {
+
+    public LogSamplingProperties {
+        defaultPermits = defaultPermits == null ? 10 : defaultPermits;
+        permits = permits == null ? Map.of() : permits;
+        window = window == null ? Duration.ofSeconds(1) : window;
+    }
+}
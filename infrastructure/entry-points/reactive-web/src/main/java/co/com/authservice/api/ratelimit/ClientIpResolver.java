@@ -0,0 +1,119 @@
+package co.com.authservice.api.ratelimit;
+
+import io.netty.util.NetUtil;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * Resolves the client IP that login attempts are limited by.
+ *
+ * <p>The connection's remote address is used unless it belongs to one of
+ * {@code security.rate-limit.trusted-proxies}. Only then is {@code X-Forwarded-For} read,
+ * from right to left, skipping the addresses of trusted proxies: the first other address
+ * is the one the outermost trusted proxy saw, and anything a client writes into the
+ * header sits to its left and is never reached. Header values are parsed as IP literals
+ * only, never resolved as host names.</p>
+ */
+@Component
+public class ClientIpResolver {
+
+    static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final List<Cidr> trustedProxies;
+
+    public ClientIpResolver(RateLimitProperties properties) {
+        this.trustedProxies = properties.trustedProxies().stream().map(Cidr::parse).toList();
+    }
+
+    public String resolve(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null || remote.getAddress() == null) {
+            return UNKNOWN;
+        }
+        byte[] peer = remote.getAddress().getAddress();
+        if (!isTrusted(peer)) {
+            return NetUtil.bytesToIpAddress(peer);
+        }
+        byte[] client = peer;
+        List<String> forwarded = request.getHeaders().getOrDefault(X_FORWARDED_FOR, List.of());
+        for (int i = forwarded.size() - 1; i >= 0 && isTrusted(client); i--) {
+            String[] hops = forwarded.get(i).split(",");
+            for (int j = hops.length - 1; j >= 0 && isTrusted(client); j--) {
+                byte[] hop = parse(hops[j].trim());
+                if (hop == null) {
+                    return NetUtil.bytesToIpAddress(client);
+                }
+                client = hop;
+            }
+        }
+        return NetUtil.bytesToIpAddress(client);
+    }
+
+    private boolean isTrusted(byte[] address) {
+        for (Cidr proxy : trustedProxies) {
+            if (proxy.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accepts a bare IPv4 or IPv6 literal, and the {@code a.b.c.d:port} and
+     * {@code [v6]:port} forms some proxies write.
+     */
+    static byte[] parse(String value) {
+        byte[] address = NetUtil.createByteArrayFromIpAddressString(value);
+        if (address != null || value.isEmpty()) {
+            return address;
+        }
+        if (value.charAt(0) == '[') {
+            int end = value.indexOf(']');
+            return end > 0 ? NetUtil.createByteArrayFromIpAddressString(value.substring(1, end)) : null;
+        }
+        int port = value.lastIndexOf(':');
+        return port > 0 && value.indexOf(':') == port
+                ? NetUtil.createByteArrayFromIpAddressString(value.substring(0, port))
+                : null;
+    }
+
+    record Cidr(byte[] network, int prefix) {
+
+        static Cidr parse(String value) {
+            int slash = value.indexOf('/');
+            String host = slash < 0 ? value.trim() : value.substring(0, slash).trim();
+            byte[] network = NetUtil.createByteArrayFromIpAddressString(host);
+            if (network == null) {
+                throw new IllegalArgumentException("Trusted proxy is not an IP address or CIDR range: " + value);
+            }
+            int prefix = slash < 0 ? network.length * 8 : Integer.parseInt(value.substring(slash + 1).trim());
+            if (prefix < 0 || prefix > network.length * 8) {
+                throw new IllegalArgumentException("Invalid prefix length in trusted proxy: " + value);
+            }
+            return new Cidr(network, prefix);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefix / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefix % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package co.com.authservice.api.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process token bucket per key, implemented with GCRA (generic cell rate algorithm).
+ *
+ * <p>Each key holds a single {@link AtomicLong}: the theoretical arrival time (TAT) of
+ * the next request. A request is accepted when {@code TAT - now} is within the burst
+ * tolerance and moves the TAT forward by one emission interval with a CAS, so the check
+ * never locks and costs a map lookup plus one or two atomic operations. Keys live in
+ * {@link ConcurrentHashMap}s, whose bins are locked independently only when a key is
+ * first inserted.</p>
+ *
+ * <p>Keys are kept in two generations of at most {@code maxEntries / 2} keys each. New
+ * keys go into the current generation, and keys found in the previous one are moved
+ * back into it. When the current generation is full it becomes the previous one and the
+ * old previous generation is dropped, so the least recently used keys are evicted in
+ * O(1) and memory stays bounded however many distinct keys arrive. Every key always has
+ * its own bucket: a flood of new keys can at worst evict a key, which then starts again
+ * from a full bucket, but never makes other clients share a limit.</p>
+ */
+final class GcraLimiter {
+
+    static final long ALLOWED = 0L;
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final int generationCapacity;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Generations> generations = new AtomicReference<>(new Generations(null));
+
+    GcraLimiter(int permits, Duration period, int maxEntries) {
+        this(permits, period, maxEntries, System::nanoTime);
+    }
+
+    GcraLimiter(int permits, Duration period, int maxEntries, LongSupplier nanoClock) {
+        this.emissionIntervalNanos = period.toNanos() / permits;
+        this.toleranceNanos = emissionIntervalNanos * (permits - 1);
+        this.generationCapacity = Math.max(1, maxEntries / 2);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one permit for {@code key}.
+     *
+     * @return {@link #ALLOWED}, or the nanoseconds to wait before a permit is available
+     */
+    long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong tat = bucketFor(key, now);
+        while (true) {
+            long current = tat.get();
+            long start = current - now < 0 ? now : current;
+            long wait = start - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, start + emissionIntervalNanos)) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    int size() {
+        Generations current = generations.get();
+        return current.current.size() + current.previous.size();
+    }
+
+    private AtomicLong bucketFor(String key, long now) {
+        Generations target = generations.get();
+        AtomicLong tat = target.current.get(key);
+        if (tat != null) {
+            return tat;
+        }
+        if (target.current.size() >= generationCapacity) {
+            target = rotate(target);
+        }
+        ConcurrentHashMap<String, AtomicLong> previous = target.previous;
+        return target.current.computeIfAbsent(key, k -> {
+            AtomicLong kept = previous.remove(k);
+            return kept != null ? kept : new AtomicLong(now);
+        });
+    }
+
+    /**
+     * Only one of the threads finding {@code full} rotates it; the others use its result.
+     */
+    private Generations rotate(Generations full) {
+        Generations next = new Generations(full.current);
+        return generations.compareAndSet(full, next) ? next : generations.get();
+    }
+
+    private static final class Generations {
+        private final ConcurrentHashMap<String, AtomicLong> current = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, AtomicLong> previous;
+
+        private Generations(ConcurrentHashMap<String, AtomicLong> previous) {
+            this.previous = previous != null ? previous : new ConcurrentHashMap<>();
+        }
+    }
+}
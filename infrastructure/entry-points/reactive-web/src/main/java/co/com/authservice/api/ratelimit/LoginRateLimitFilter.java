@@ -0,0 +1,69 @@
+package co.com.authservice.api.ratelimit;
+
+import co.com.authservice.api.security.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies the per-IP login limit before the request body is read, so rejected attempts
+ * never reach the database or the password hash. The per-account limit needs the
+ * submitted email and is applied by the login handler right after decoding it.
+ *
+ * <p>The login route is recognised with the same {@link PathPattern} matching the router
+ * uses, so a path that reaches the login handler through matrix parameters or
+ * percent-encoded characters ({@code /api/v1/auth/login;x}) is limited too.</p>
+ *
+ * <p>The client IP comes from the {@link ClientIpResolver}, which only believes
+ * {@code X-Forwarded-For} when the connection comes from a trusted proxy.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginRateLimitFilter implements WebFilter, Ordered {
+
+    static final String LOGIN_PATH = "/api/v1/auth/login";
+
+    private static final PathPattern LOGIN_PATTERN = PathPatternParser.defaultInstance.parse(LOGIN_PATH);
+
+    static final ErrorResponseWriter.Template TOO_MANY_REQUESTS =
+            ErrorResponseWriter.template("TOO_MANY_REQUESTS", "Too many login attempts. Please retry later.");
+
+    private final LoginRateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.POST || !LOGIN_PATTERN.matches(request.getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+        return rateLimiter.acquireForIp(clientIpResolver.resolve(request))
+                .flatMap(wait -> {
+                    if (wait.isZero()) {
+                        return chain.filter(exchange);
+                    }
+                    exchange.getResponse().getHeaders()
+                            .set(HttpHeaders.RETRY_AFTER, RateLimitExceededException.retryAfterSeconds(wait));
+                    return errorResponseWriter.write(exchange, HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_REQUESTS);
+                });
+    }
+
+    /**
+     * Runs ahead of the authentication filter and anything that reads the body.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+}
@@ -0,0 +1,112 @@
+package co.com.authservice.api.ratelimit;
+
+import co.com.authservice.model.ratelimit.gateways.RateLimitRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Limits login attempts per client IP and per submitted email.
+ *
+ * <p>The in-process {@link GcraLimiter} is always checked first and rejects without any
+ * I/O. Only attempts it accepts are checked against the shared {@link RateLimitRepository}
+ * when {@code security.rate-limit.shared} is on, so the limits hold across instances. A
+ * failing shared store is ignored and the local limits still apply.</p>
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    static final String METRIC = "authservice.ratelimit.rejected";
+
+    private static final Mono<Duration> ALLOWED = Mono.just(Duration.ZERO);
+
+    private final boolean enabled;
+    private final Bucket ip;
+    private final Bucket account;
+    private final RateLimitRepository shared;
+
+    @Autowired
+    public LoginRateLimiter(RateLimitProperties properties, ObjectProvider<RateLimitRepository> shared,
+                            MeterRegistry registry) {
+        this(properties, properties.shared() ? shared.getIfAvailable() : null, registry);
+    }
+
+    LoginRateLimiter(RateLimitProperties properties, RateLimitRepository shared, MeterRegistry registry) {
+        this.enabled = properties.enabled();
+        this.shared = shared;
+        this.ip = new Bucket("ip", properties.ip(), properties.maxEntries(), registry);
+        this.account = new Bucket("account", properties.account(), properties.maxEntries(), registry);
+    }
+
+    /**
+     * @return {@link Duration#ZERO} when the attempt may proceed, otherwise the time to wait
+     */
+    public Mono<Duration> acquireForIp(String clientIp) {
+        return acquire(ip, clientIp);
+    }
+
+    /**
+     * Emails are compared case-insensitively, so changing the case does not buy new attempts.
+     */
+    public Mono<Duration> acquireForAccount(String email) {
+        if (email == null || email.isBlank()) {
+            return ALLOWED;
+        }
+        return acquire(account, email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private Mono<Duration> acquire(Bucket bucket, String key) {
+        if (!enabled) {
+            return ALLOWED;
+        }
+        long waitNanos = bucket.limiter.tryAcquire(key);
+        if (waitNanos != GcraLimiter.ALLOWED) {
+            bucket.rejectedLocally.increment();
+            return Mono.just(Duration.ofNanos(waitNanos));
+        }
+        if (shared == null) {
+            return ALLOWED;
+        }
+        return shared.acquire(bucket.name + ":" + key, bucket.emissionInterval, bucket.tolerance)
+                .doOnNext(wait -> {
+                    if (!wait.isZero()) {
+                        bucket.rejectedShared.increment();
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.atDebug()
+                            .setMessage("Shared rate limit store unavailable")
+                            .addKeyValue("exception", error.getClass().getSimpleName())
+                            .log();
+                    return ALLOWED;
+                });
+    }
+
+    private static final class Bucket {
+        private final String name;
+        private final GcraLimiter limiter;
+        private final Duration emissionInterval;
+        private final Duration tolerance;
+        private final Counter rejectedLocally;
+        private final Counter rejectedShared;
+
+        private Bucket(String name, RateLimitProperties.Limit limit, int maxEntries, MeterRegistry registry) {
+            this.name = name;
+            this.limiter = new GcraLimiter(limit.permits(), limit.period(), maxEntries);
+            this.emissionInterval = limit.period().dividedBy(limit.permits());
+            this.tolerance = emissionInterval.multipliedBy(limit.permits() - 1L);
+            this.rejectedLocally = Counter.builder(METRIC).tag("scope", name).tag("store", "local").register(registry);
+            this.rejectedShared = Counter.builder(METRIC).tag("scope", name).tag("store", "shared").register(registry);
+            Gauge.builder("authservice.ratelimit.keys", limiter, GcraLimiter::size).tag("scope", name).register(registry);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package co.com.authservice.api.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * A login attempt over its rate limit. Expected under attack, so no stack trace is captured.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final transient Duration retryAfter;
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super("Too many login attempts. Please retry later.", null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Whole seconds for the {@code Retry-After} header, rounded up.
+     */
+    public static String retryAfterSeconds(Duration retryAfter) {
+        long millis = retryAfter.toMillis();
+        return Long.toString(Math.max(1, (millis + 999) / 1000));
+    }
+}
@@ -0,0 +1,48 @@
+package co.com.authservice.api.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Login rate limits.
+ *
+ * @param enabled        whether login attempts are limited at all
+ * @param ip             attempts accepted per client IP
+ * @param account        attempts accepted per submitted email
+ * @param maxEntries     keys tracked per limit before the least recently used are evicted
+ * @param shared         also enforce the limits cluster-wide through the shared store
+ * @param trustedProxies IP addresses or CIDR ranges of the proxies in front of the service,
+ *                       whose {@code X-Forwarded-For} is believed; empty to always limit
+ *                       by the connection's remote address
+ */
+@ConfigurationProperties(prefix = "security.rate-limit")
+public record RateLimitProperties(
+        Boolean enabled,
+        Limit ip,
+        Limit account,
+        Integer maxEntries,
+        Boolean shared,
+        List<String> trustedProxies) {
+
+    public RateLimitProperties {
+        enabled = enabled == null || enabled;
+        ip = ip == null ? new Limit(20, Duration.ofMinutes(1)) : ip;
+        account = account == null ? new Limit(5, Duration.ofMinutes(1)) : account;
+        maxEntries = maxEntries == null ? 65_536 : maxEntries;
+        shared = shared != null && shared;
+        trustedProxies = trustedProxies == null ? List.of() : List.copyOf(trustedProxies);
+    }
+
+    /**
+     * {@code permits} attempts per {@code period}, all of which may be used as a burst.
+     */
+    public record Limit(Integer permits, Duration period) {
+
+        public Limit {
+            permits = permits == null || permits < 1 ? 1 : permits;
+            period = period == null ? Duration.ofMinutes(1) : period;
+        }
+    }
+}
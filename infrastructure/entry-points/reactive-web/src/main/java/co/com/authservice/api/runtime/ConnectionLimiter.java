@@ -0,0 +1,45 @@
+package co.com.authservice.api.runtime;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.netty.Connection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks open server connections and closes new ones beyond the configured limit.
+ */
+class ConnectionLimiter {
+
+    static final String METRIC_PREFIX = "authservice.netty.connections";
+
+    private final int maxConnections;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejected;
+
+    ConnectionLimiter(int maxConnections, MeterRegistry registry) {
+        this.maxConnections = maxConnections;
+        if (registry != null) {
+            Gauge.builder(METRIC_PREFIX + ".active", active, AtomicInteger::get).register(registry);
+            this.rejected = Counter.builder(METRIC_PREFIX + ".rejected").register(registry);
+        } else {
+            this.rejected = null;
+        }
+    }
+
+    void onConnection(Connection connection) {
+        int open = active.incrementAndGet();
+        connection.onDispose(active::decrementAndGet);
+        if (maxConnections > 0 && open > maxConnections) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            connection.dispose();
+        }
+    }
+
+    int active() {
+        return active.get();
+    }
+}
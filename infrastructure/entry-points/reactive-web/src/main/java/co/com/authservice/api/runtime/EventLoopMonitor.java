@@ -0,0 +1,139 @@
+package co.com.authservice.api.runtime;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Probes every server event loop at a fixed interval with a no-op task.
+ *
+ * <p>The delay until the probe runs is the loop's scheduling lag and is recorded in
+ * {@value #LAG_TIMER}. A probe still pending after the blocked threshold means the loop
+ * thread is stuck, typically on blocking or CPU-heavy work such as BCrypt: the
+ * episode is counted once in {@value #BLOCKED_COUNTER} and the loop thread's stack is
+ * logged so the offending frame is visible. Pending task counts are exposed as
+ * {@value #PENDING_GAUGE}.</p>
+ */
+@Slf4j
+public class EventLoopMonitor implements SmartLifecycle {
+
+    static final String LAG_TIMER = "authservice.eventloop.lag";
+    static final String BLOCKED_COUNTER = "authservice.eventloop.blocked";
+    static final String PENDING_GAUGE = "authservice.eventloop.pending.tasks";
+
+    private final List<LoopProbe> probes = new ArrayList<>();
+    private final long intervalNanos;
+    private final long blockedThresholdNanos;
+    private ScheduledExecutorService ticker;
+
+    public EventLoopMonitor(EventLoopGroup group, NettyRuntimeProperties properties, MeterRegistry registry) {
+        this.intervalNanos = properties.lagProbeInterval().toNanos();
+        this.blockedThresholdNanos = properties.blockedThreshold().toNanos();
+        int index = 0;
+        for (EventExecutor executor : group) {
+            probes.add(new LoopProbe(executor, String.valueOf(index++), registry));
+        }
+    }
+
+    @Override
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "eventloop-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ticker != null;
+    }
+
+    void tick() {
+        long now = System.nanoTime();
+        for (LoopProbe probe : probes) {
+            probe.tick(now, blockedThresholdNanos);
+        }
+    }
+
+    private static final class LoopProbe {
+
+        private static final long IDLE = 0L;
+
+        private final EventExecutor executor;
+        private final String loop;
+        private final AtomicLong pendingSince = new AtomicLong(IDLE);
+        private final Timer lag;
+        private final Counter blocked;
+        private volatile Thread thread;
+        private boolean reportedBlocked;
+
+        private LoopProbe(EventExecutor executor, String loop, MeterRegistry registry) {
+            this.executor = executor;
+            this.loop = loop;
+            this.lag = Timer.builder(LAG_TIMER).tag("loop", loop).register(registry);
+            this.blocked = Counter.builder(BLOCKED_COUNTER).tag("loop", loop).register(registry);
+            if (executor instanceof SingleThreadEventExecutor singleThread) {
+                Gauge.builder(PENDING_GAUGE, singleThread, SingleThreadEventExecutor::pendingTasks)
+                        .tag("loop", loop)
+                        .register(registry);
+            }
+        }
+
+        private void tick(long now, long blockedThresholdNanos) {
+            long since = pendingSince.get();
+            if (since != IDLE) {
+                if (!reportedBlocked && now - since > blockedThresholdNanos) {
+                    reportedBlocked = true;
+                    blocked.increment();
+                    reportBlocked(now - since);
+                }
+                return;
+            }
+            reportedBlocked = false;
+            pendingSince.set(now);
+            executor.execute(() -> {
+                thread = Thread.currentThread();
+                lag.record(System.nanoTime() - now, TimeUnit.NANOSECONDS);
+                pendingSince.set(IDLE);
+            });
+        }
+
+        private void reportBlocked(long pendingNanos) {
+            Thread loopThread = thread;
+            Throwable stack = new Throwable("Event loop thread stack");
+            if (loopThread != null) {
+                stack.setStackTrace(loopThread.getStackTrace());
+            }
+            log.atWarn()
+                    .setMessage("Event loop blocked")
+                    .addKeyValue("loop", loop)
+                    .addKeyValue("thread", loopThread != null ? loopThread.getName() : null)
+                    .addKeyValue("pendingMs", TimeUnit.NANOSECONDS.toMillis(pendingNanos))
+                    .setCause(stack)
+                    .log();
+        }
+    }
+}
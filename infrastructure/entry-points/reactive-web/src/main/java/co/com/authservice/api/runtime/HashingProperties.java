@@ -0,0 +1,22 @@
+package co.com.authservice.api.runtime;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Size of the dedicated pool that runs password hashing off the event loops.
+ *
+ * @param threads       worker threads; defaults to the available processors
+ * @param queueCapacity pending hashes accepted before new ones are rejected with 503
+ */
+@ConfigurationProperties(prefix = "runtime.hashing")
+public record HashingProperties(Integer threads, Integer queueCapacity) {
+
+    public HashingProperties {
+        if (threads == null || threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (queueCapacity == null || queueCapacity < 0) {
+            queueCapacity = 256;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package co.com.authservice.api.runtime;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool for CPU-heavy password hashing, so BCrypt never runs on a Netty event
+ * loop. When all threads are busy and the queue is full the task is rejected and the
+ * request fails fast with 503 instead of piling up latency for everyone.
+ */
+@Component
+public class HashingScheduler implements DisposableBean {
+
+    static final String METRIC_PREFIX = "authservice.hashing";
+
+    private final ThreadPoolExecutor executor;
+    private final Scheduler scheduler;
+
+    @Autowired
+    public HashingScheduler(HashingProperties properties, ObjectProvider<MeterRegistry> registry) {
+        this(properties, registry.getIfAvailable());
+    }
+
+    HashingScheduler(HashingProperties properties, MeterRegistry registry) {
+        Counter rejected = registry != null
+                ? Counter.builder(METRIC_PREFIX + ".rejected").register(registry)
+                : null;
+        this.executor = new ThreadPoolExecutor(
+                properties.threads(),
+                properties.threads(),
+                0L, TimeUnit.MILLISECONDS,
+                queue(properties.queueCapacity()),
+                threadFactory(),
+                (task, pool) -> {
+                    if (rejected != null) {
+                        rejected.increment();
+                    }
+                    new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, pool);
+                });
+        this.scheduler = Schedulers.fromExecutorService(executor, "hashing");
+        if (registry != null) {
+            Gauge.builder(METRIC_PREFIX + ".queued", executor, pool -> pool.getQueue().size()).register(registry);
+            Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+        }
+    }
+
+    public <T> Mono<T> submit(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(scheduler);
+    }
+
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    private static BlockingQueue<Runnable> queue(int capacity) {
+        if (capacity == 0) {
+            return new SynchronousQueue<>();
+        }
+        return capacity == Integer.MAX_VALUE ? new LinkedBlockingQueue<>() : new ArrayBlockingQueue<>(capacity);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package co.com.authservice.api.runtime;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+@Configuration
+public class NettyRuntimeConfig {
+
+    static final String LOOP_PREFIX = "http";
+
+    /**
+     * Dedicated server event loops. With a non-positive {@code select-threads} no
+     * acceptor loop is created and the worker loops accept connections themselves.
+     */
+    @Bean(destroyMethod = "dispose")
+    public LoopResources serverLoopResources(NettyRuntimeProperties properties) {
+        return properties.selectThreads() > 0
+                ? LoopResources.create(LOOP_PREFIX, properties.selectThreads(), properties.workerThreads(), true)
+                : LoopResources.create(LOOP_PREFIX, properties.workerThreads(), true);
+    }
+
+    @Bean
+    public NettyServerCustomizer runtimeServerCustomizer(LoopResources serverLoopResources,
+                                                         NettyRuntimeProperties properties,
+                                                         ObjectProvider<MeterRegistry> registry) {
+        ConnectionLimiter limiter = new ConnectionLimiter(properties.maxConnections(), registry.getIfAvailable());
+        return server -> server
+                .runOn(serverLoopResources, properties.preferNative())
+                .doOnConnection(limiter::onConnection);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "runtime.compression", name = "enabled", matchIfMissing = true)
+    public NettyServerCustomizer compressionServerCustomizer(ResponseCompressionProperties properties) {
+        ResponseCompressionPredicate predicate = new ResponseCompressionPredicate(properties);
+        return server -> server.compress(predicate);
+    }
+
+    @Bean
+    public EventLoopMonitor eventLoopMonitor(LoopResources serverLoopResources, NettyRuntimeProperties properties,
+                                             MeterRegistry registry) {
+        return new EventLoopMonitor(serverLoopResources.onServer(properties.preferNative()), properties, registry);
+    }
+
+    @Bean
+    public static SchedulerQueueMetrics schedulerQueueMetrics() {
+        return new SchedulerQueueMetrics();
+    }
+}
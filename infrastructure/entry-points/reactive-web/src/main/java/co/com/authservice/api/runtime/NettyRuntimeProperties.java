@@ -0,0 +1,48 @@
+package co.com.authservice.api.runtime;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Event-loop and connection settings for the reactor-netty server. Idle timeout and
+ * keep-alive limits are left to Spring Boot's {@code server.netty.*} properties.
+ *
+ * @param preferNative     use the epoll (or io_uring, when its transport is on the
+ *                         classpath) native transport instead of NIO when available
+ * @param selectThreads    acceptor threads; 0 lets the worker loops accept
+ * @param workerThreads    I/O worker threads; defaults to the available processors
+ * @param maxConnections   open connections above this are closed on accept; 0 disables the limit
+ * @param lagProbeInterval how often each event loop is probed for scheduling lag
+ * @param blockedThreshold a probe pending longer than this reports the loop as blocked
+ */
+@ConfigurationProperties(prefix = "runtime.netty")
+public record NettyRuntimeProperties(
+        Boolean preferNative,
+        Integer selectThreads,
+        Integer workerThreads,
+        Integer maxConnections,
+        Duration lagProbeInterval,
+        Duration blockedThreshold) {
+
+    public NettyRuntimeProperties {
+        if (preferNative == null) {
+            preferNative = true;
+        }
+        if (selectThreads == null) {
+            selectThreads = 0;
+        }
+        if (workerThreads == null || workerThreads <= 0) {
+            workerThreads = Math.max(Runtime.getRuntime().availableProcessors(), 4);
+        }
+        if (maxConnections == null) {
+            maxConnections = 0;
+        }
+        if (lagProbeInterval == null) {
+            lagProbeInterval = Duration.ofSeconds(1);
+        }
+        if (blockedThreshold == null) {
+            blockedThreshold = Duration.ofMillis(200);
+        }
+    }
+}
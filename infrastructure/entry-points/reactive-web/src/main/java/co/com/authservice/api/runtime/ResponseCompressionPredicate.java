@@ -0,0 +1,48 @@
+package co.com.authservice.api.runtime;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * Compresses a response only when its route is listed and its declared length reaches
+ * the threshold. Responses without {@code Content-Length} are streamed and always
+ * eligible on a listed route.
+ */
+class ResponseCompressionPredicate implements BiPredicate<HttpServerRequest, HttpServerResponse> {
+
+    private final long minResponseSize;
+    private final List<PathPattern> patterns;
+
+    ResponseCompressionPredicate(ResponseCompressionProperties properties) {
+        this.minResponseSize = properties.minResponseSize().toBytes();
+        this.patterns = properties.paths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    public boolean test(HttpServerRequest request, HttpServerResponse response) {
+        String contentLength = response.responseHeaders().get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength != null && Long.parseLong(contentLength) < minResponseSize) {
+            return false;
+        }
+        return matches(request.fullPath());
+    }
+
+    boolean matches(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
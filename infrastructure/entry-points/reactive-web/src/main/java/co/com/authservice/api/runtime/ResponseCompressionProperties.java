@@ -0,0 +1,30 @@
+package co.com.authservice.api.runtime;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+/**
+ * Per-route response compression. Brotli is negotiated when brotli4j and its native
+ * library for the platform load (Linux x86_64 and aarch64 are bundled); otherwise Netty
+ * falls back to gzip or deflate.
+ *
+ * @param minResponseSize responses with a smaller {@code Content-Length} are sent as-is
+ * @param paths           path patterns whose responses may be compressed
+ */
+@ConfigurationProperties(prefix = "runtime.compression")
+public record ResponseCompressionProperties(Boolean enabled, DataSize minResponseSize, List<String> paths) {
+
+    public ResponseCompressionProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (minResponseSize == null) {
+            minResponseSize = DataSize.ofKilobytes(2);
+        }
+        if (paths == null) {
+            paths = List.of();
+        }
+    }
+}
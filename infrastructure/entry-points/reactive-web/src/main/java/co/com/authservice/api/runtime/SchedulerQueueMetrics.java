@@ -0,0 +1,85 @@
+package co.com.authservice.api.runtime;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Queue depth of Reactor's shared schedulers ({@code parallel}, {@code boundedElastic}).
+ *
+ * <p>Registers a {@link Schedulers#addExecutorServiceDecorator executor decorator} that
+ * remembers every executor Reactor creates, grouped by scheduler name, and exposes the
+ * sum of their queue sizes as {@value #QUEUED_GAUGE}. Executors created before the
+ * decorator was registered are not seen; bounded elastic workers are recreated after
+ * eviction, so they are picked up over time.</p>
+ */
+public class SchedulerQueueMetrics implements MeterBinder, DisposableBean {
+
+    static final String QUEUED_GAUGE = "authservice.scheduler.queued";
+    static final String DECORATOR_KEY = SchedulerQueueMetrics.class.getName();
+
+    private final Map<String, Set<ThreadPoolExecutor>> executors = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public SchedulerQueueMetrics() {
+        Schedulers.addExecutorServiceDecorator(DECORATOR_KEY, this::track);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.registry = meterRegistry;
+        executors.keySet().forEach(this::register);
+    }
+
+    @Override
+    public void destroy() {
+        Schedulers.removeExecutorServiceDecorator(DECORATOR_KEY);
+    }
+
+    int queued(String scheduler) {
+        Set<ThreadPoolExecutor> pools = executors.get(scheduler);
+        if (pools == null) {
+            return 0;
+        }
+        synchronized (pools) {
+            int queued = 0;
+            for (ThreadPoolExecutor pool : pools) {
+                queued += pool.getQueue().size();
+            }
+            return queued;
+        }
+    }
+
+    private ScheduledExecutorService track(Scheduler scheduler, ScheduledExecutorService executor) {
+        if (executor instanceof ThreadPoolExecutor pool) {
+            String name = Scannable.from(scheduler).name();
+            Set<ThreadPoolExecutor> pools = executors.computeIfAbsent(name, key -> {
+                register(key);
+                return Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+            });
+            pools.add(pool);
+        }
+        return executor;
+    }
+
+    private void register(String scheduler) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry != null) {
+            Gauge.builder(QUEUED_GAUGE, this, metrics -> metrics.queued(scheduler))
+                    .tag("scheduler", scheduler)
+                    .register(meterRegistry);
+        }
+    }
+}
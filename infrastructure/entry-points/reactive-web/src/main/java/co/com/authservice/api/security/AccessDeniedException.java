@@ -0,0 +1,12 @@
+package co.com.authservice.api.security;
+
+/**
+ * The authenticated caller lacks a permission a handler requires. Route policies reject
+ * these requests first, so no stack trace is captured.
+ */
+public class AccessDeniedException extends RuntimeException {
+
+    public AccessDeniedException(String message) {
+        super(message, null, false, false);
+    }
+}
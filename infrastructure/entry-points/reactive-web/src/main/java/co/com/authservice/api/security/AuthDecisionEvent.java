@@ -0,0 +1,51 @@
+package co.com.authservice.api.security;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the {@link JWTAuthenticationFilter} decision, from policy
+ * resolution until the request is either forwarded or rejected, or until it is
+ * cancelled before a decision. Downstream handler time is not included. Disabled by
+ * default.
+ */
+@Name(AuthDecisionEvent.NAME)
+@Label("Authentication Decision")
+@Description("Route policy, token and permission checks for a single request")
+@Category({"Auth Service", "Security"})
+@Enabled(false)
+@StackTrace(false)
+public class AuthDecisionEvent extends Event {
+
+    public static final String NAME = "co.com.authservice.AuthDecision";
+
+    static final String PUBLIC = "public";
+    static final String AUTHENTICATED = "authenticated";
+    static final String REJECTED = "rejected";
+    static final String FORBIDDEN = "forbidden";
+    static final String CANCELLED = "cancelled";
+    static final String INCOMPLETE = "incomplete";
+
+    @Label("Path")
+    String path;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Token Cache Hit")
+    boolean cacheHit;
+
+    void end(String path, String outcome, boolean cacheHit) {
+        if (shouldCommit()) {
+            this.path = path;
+            this.outcome = outcome;
+            this.cacheHit = cacheHit;
+            commit();
+        }
+    }
+}
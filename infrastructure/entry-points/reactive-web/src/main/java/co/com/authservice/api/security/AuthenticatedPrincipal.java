@@ -0,0 +1,10 @@
+package co.com.authservice.api.security;
+
+import co.com.authservice.model.user.User;
+
+public record AuthenticatedPrincipal(User user, long permissions) {
+
+    public boolean hasAll(long requiredPermissions) {
+        return (permissions & requiredPermissions) == requiredPermissions;
+    }
+}
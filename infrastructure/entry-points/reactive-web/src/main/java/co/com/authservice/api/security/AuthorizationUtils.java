@@ -6,30 +6,26 @@ import reactor.core.publisher.Mono;
 
 public class AuthorizationUtils {
 
+    public static final String AUTHENTICATED_USER = "authenticated_user";
+    public static final String AUTHENTICATED_PRINCIPAL = "authenticated_principal";
+
     public static Mono<User> getAuthenticatedUser(ServerWebExchange exchange) {
-        User user = exchange.getAttribute("authenticated_user");
+        User user = exchange.getAttribute(AUTHENTICATED_USER);
         if (user == null) {
             return Mono.error(new RuntimeException("No authenticated user found"));
         }
         return Mono.just(user);
     }
 
-    public static Mono<User> requireAdminOrAdvisorRole(User user) {
-        String role = user.getRole().getName();
-        if (!"ADMIN".equals(role) && !"ADVISOR".equals(role)) {
-            return Mono.error(new RuntimeException("Access denied. Admin or Advisor role required."));
+    /**
+     * Checks permissions again inside a handler, so a route the policy table failed to
+     * restrict still cannot run without them.
+     */
+    public static Mono<AuthenticatedPrincipal> requirePermissions(ServerWebExchange exchange, long requiredPermissions) {
+        AuthenticatedPrincipal principal = exchange.getAttribute(AUTHENTICATED_PRINCIPAL);
+        if (principal == null || !principal.hasAll(requiredPermissions)) {
+            return Mono.error(new AccessDeniedException("Access denied. Insufficient permissions."));
         }
-        return Mono.just(user);
-    }
-
-    public static Mono<User> requireClientOwnership(User user, Long resourceOwnerId) {
-        String role = user.getRole().getName();
-        if ("CLIENT".equals(role)) {
-            if (!user.getId().equals(resourceOwnerId)) {
-                return Mono.error(new RuntimeException("Access denied. You can only access your own resources."));
-            }
-        }
-
-        return Mono.just(user);
+        return Mono.just(principal);
     }
 }
@@ -0,0 +1,42 @@
+package co.com.authservice.api.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Second-resolution clock that caches the UTF-8 bytes of the current
+ * {@code ISO_LOCAL_DATE_TIME} timestamp, formatting at most once per second.
+ */
+final class CoarseClock {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final Clock clock;
+    private volatile Tick tick = new Tick(Long.MIN_VALUE, new byte[0]);
+
+    CoarseClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    byte[] timestamp() {
+        long second = Math.floorDiv(clock.millis(), 1000L);
+        Tick current = tick;
+        if (current.second() != second) {
+            String formatted = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), clock.getZone()).format(FORMATTER);
+            current = new Tick(second, formatted.getBytes(StandardCharsets.US_ASCII));
+            tick = current;
+        }
+        return current.bytes();
+    }
+
+    static CoarseClock systemDefaultZone() {
+        return new CoarseClock(Clock.system(ZoneId.systemDefault()));
+    }
+
+    private record Tick(long second, byte[] bytes) {
+    }
+}
@@ -0,0 +1,98 @@
+package co.com.authservice.api.security;
+
+import co.com.authservice.api.lockout.AccountLockout;
+import co.com.authservice.api.runtime.HashingScheduler;
+import co.com.authservice.model.audit.AuditEvent;
+import co.com.authservice.model.audit.AuditEventType;
+import co.com.authservice.model.audit.gateways.AuditEventRepository;
+import co.com.authservice.model.user.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Checks login passwords on the {@link HashingScheduler} so every rejected login costs the
+ * same.
+ *
+ * <p>An unknown email, a locked account, an account without a password and a wrong
+ * password all run one {@link PasswordEncoder#matches} and fail with the same error. The
+ * first three match against a dummy hash encoded once at startup with the configured encoder, so it has
+ * the same cost factor as real hashes. Neither the response nor its timing reveals
+ * whether an account exists or is locked, and probing unknown emails is as expensive as
+ * guessing passwords.
+ * Running on the hashing pool puts the dummy work under the same concurrency bound.</p>
+ *
+ * <p>Failures are counted in {@code authservice.login.failed}, tagged by
+ * {@code reason}; attempts against a locked account are only told apart there and in
+ * the audit trail ({@link AuditEventType#LOGIN_LOCKED}).</p>
+ */
+@Component
+public class CredentialsVerifier {
+
+    static final String METRIC = "authservice.login.failed";
+    static final String INVALID_CREDENTIALS = "Invalid credentials";
+
+    private final PasswordEncoder passwordEncoder;
+    private final HashingScheduler hashingScheduler;
+    private final AccountLockout accountLockout;
+    private final AuditEventRepository auditEventRepository;
+    private final String dummyHash;
+    private final Counter unknownUser;
+    private final Counter locked;
+    private final Counter badPassword;
+
+    public CredentialsVerifier(PasswordEncoder passwordEncoder, HashingScheduler hashingScheduler,
+                               AccountLockout accountLockout, AuditEventRepository auditEventRepository,
+                               MeterRegistry registry) {
+        this.passwordEncoder = passwordEncoder;
+        this.hashingScheduler = hashingScheduler;
+        this.accountLockout = accountLockout;
+        this.auditEventRepository = auditEventRepository;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        this.unknownUser = Counter.builder(METRIC).tag("reason", "unknown_user").register(registry);
+        this.locked = Counter.builder(METRIC).tag("reason", "locked").register(registry);
+        this.badPassword = Counter.builder(METRIC).tag("reason", "bad_password").register(registry);
+    }
+
+    /**
+     * @return {@code user} when it is not locked and {@code rawPassword} matches,
+     * otherwise an {@link IllegalArgumentException}; the outcome is recorded for the
+     * account lockout and the audit trail
+     */
+    public Mono<User> verify(User user, String rawPassword) {
+        return hashingScheduler.submit(() -> {
+            if (!accountLockout.lockedFor(user).isZero()) {
+                passwordEncoder.matches(rawPassword, dummyHash);
+                locked.increment();
+                auditEventRepository.record(AuditEvent.of(AuditEventType.LOGIN_LOCKED, user.getId()));
+                throw new IllegalArgumentException(INVALID_CREDENTIALS);
+            }
+            String hash = user.getPassword();
+            boolean matches = passwordEncoder.matches(rawPassword, hash != null ? hash : dummyHash);
+            if (!matches || hash == null) {
+                badPassword.increment();
+                accountLockout.recordFailure(user);
+                auditEventRepository.record(AuditEvent.of(AuditEventType.LOGIN_FAILED, user.getId()));
+                throw new IllegalArgumentException(INVALID_CREDENTIALS);
+            }
+            accountLockout.recordSuccess(user);
+            auditEventRepository.record(AuditEvent.of(AuditEventType.LOGIN_SUCCEEDED, user.getId()));
+            return user;
+        });
+    }
+
+    /**
+     * Spends a password match on the dummy hash, then fails like a wrong password.
+     */
+    public <T> Mono<T> rejectUnknown(String rawPassword) {
+        return hashingScheduler.submit(() -> {
+            passwordEncoder.matches(rawPassword, dummyHash);
+            unknownUser.increment();
+            throw new IllegalArgumentException(INVALID_CREDENTIALS);
+        });
+    }
+}
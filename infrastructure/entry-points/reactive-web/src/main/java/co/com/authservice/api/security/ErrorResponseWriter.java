@@ -0,0 +1,151 @@
+package co.com.authservice.api.security;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes {@code {"code","message","timestamp","path"}} error bodies for the
+ * authentication filter without {@code String.format} or intermediate strings.
+ *
+ * <p>The constant part of each body is encoded once into a {@link Template}; per
+ * request only the cached timestamp and the JSON-escaped path (and message, for
+ * dynamic messages) are copied into a buffer allocated from the response's
+ * factory, which is pooled when running on Reactor Netty.</p>
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final byte[] FORBIDDEN_PREFIX = ascii("{\"code\":\"FORBIDDEN\",\"message\":\"");
+    private static final byte[] TIMESTAMP_FIELD = ascii("\",\"timestamp\":\"");
+    private static final byte[] PATH_FIELD = ascii("\",\"path\":\"");
+    private static final byte[] SUFFIX = ascii("\"}");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+    private static final int ESTIMATED_DYNAMIC_SIZE = 64;
+
+    /**
+     * Declared after the constants {@link #template} reads, which static initialization
+     * runs in declaration order.
+     */
+    public static final Template UNAUTHORIZED =
+            template("UNAUTHORIZED", "Authentication required. Please provide a valid JWT token.");
+
+    private final CoarseClock clock;
+
+    public ErrorResponseWriter() {
+        this(CoarseClock.systemDefaultZone());
+    }
+
+    ErrorResponseWriter(CoarseClock clock) {
+        this.clock = clock;
+    }
+
+    public static Template template(String code, String message) {
+        DataBuffer scratch = DefaultDataBufferFactory.sharedInstance.allocateBuffer(128);
+        scratch.write(ascii("{\"code\":\""));
+        writeEscaped(scratch, code);
+        scratch.write(ascii("\",\"message\":\""));
+        writeEscaped(scratch, message);
+        scratch.write(TIMESTAMP_FIELD);
+        byte[] prefix = new byte[scratch.readableByteCount()];
+        scratch.read(prefix);
+        return new Template(prefix);
+    }
+
+    public Mono<Void> write(ServerWebExchange exchange, HttpStatus status, Template template) {
+        ServerHttpResponse response = prepare(exchange, status);
+        return response.writeWith(Mono.just(render(response.bufferFactory(), template, exchange.getRequest().getPath().value())));
+    }
+
+    public Mono<Void> writeForbidden(ServerWebExchange exchange, String message) {
+        ServerHttpResponse response = prepare(exchange, HttpStatus.FORBIDDEN);
+        return response.writeWith(Mono.just(renderForbidden(response.bufferFactory(), message, exchange.getRequest().getPath().value())));
+    }
+
+    public DataBuffer render(DataBufferFactory bufferFactory, Template template, String path) {
+        byte[] timestamp = clock.timestamp();
+        DataBuffer buffer = bufferFactory.allocateBuffer(template.prefix.length + timestamp.length + ESTIMATED_DYNAMIC_SIZE);
+        buffer.write(template.prefix);
+        return finish(buffer, timestamp, path);
+    }
+
+    public DataBuffer renderForbidden(DataBufferFactory bufferFactory, String message, String path) {
+        byte[] timestamp = clock.timestamp();
+        DataBuffer buffer = bufferFactory.allocateBuffer(FORBIDDEN_PREFIX.length + timestamp.length + 2 * ESTIMATED_DYNAMIC_SIZE);
+        buffer.write(FORBIDDEN_PREFIX);
+        writeEscaped(buffer, message != null ? message : "Access denied. Insufficient permissions.");
+        buffer.write(TIMESTAMP_FIELD);
+        return finish(buffer, timestamp, path);
+    }
+
+    private static DataBuffer finish(DataBuffer buffer, byte[] timestamp, String path) {
+        buffer.write(timestamp);
+        buffer.write(PATH_FIELD);
+        writeEscaped(buffer, path);
+        buffer.write(SUFFIX);
+        return buffer;
+    }
+
+    private static ServerHttpResponse prepare(ServerWebExchange exchange, HttpStatus status) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        return response;
+    }
+
+    static void writeEscaped(DataBuffer buffer, String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer.write((byte) '\\');
+                buffer.write((byte) c);
+            } else if (c < 0x20) {
+                buffer.write((byte) '\\');
+                buffer.write((byte) 'u');
+                buffer.write((byte) '0');
+                buffer.write((byte) '0');
+                buffer.write(HEX[c >> 4]);
+                buffer.write(HEX[c & 0xF]);
+            } else if (c < 0x80) {
+                buffer.write((byte) c);
+            } else if (c < 0x800) {
+                buffer.write((byte) (0xC0 | (c >> 6)));
+                buffer.write((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.write((byte) (0xF0 | (codePoint >> 18)));
+                buffer.write((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.write((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.write((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.write((byte) '?');
+            } else {
+                buffer.write((byte) (0xE0 | (c >> 12)));
+                buffer.write((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.write((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public static final class Template {
+        private final byte[] prefix;
+
+        private Template(byte[] prefix) {
+            this.prefix = prefix;
+        }
+    }
+}
@@ -1,111 +1,185 @@
 package co.com.authservice.api.security;
 
+import co.com.authservice.api.lockout.AccountLockout;
+import co.com.authservice.api.logging.LogCategories;
+import co.com.authservice.api.logging.LogSampler;
 import co.com.authservice.jwt.JWTTokenServiceImpl;
+import co.com.authservice.jwt.VerifiedToken;
 import co.com.authservice.model.user.User;
 import co.com.authservice.usecase.auth.LoginUseCase;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JWTAuthenticationFilter implements WebFilter {
+
+    static final String OBSERVATION_NAME = "authservice.auth.decision";
     
     private final JWTTokenServiceImpl jwtTokenService;
     private final LoginUseCase loginUseCase;
+    private final VerifiedTokenCache tokenCache;
+    private final AccountLockout accountLockout;
+    private final RoutePolicyTable routePolicyTable;
+    private final PermissionRegistry permissionRegistry;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final LogSampler logSampler;
+    private final ObservationRegistry observationRegistry;
     
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (observationRegistry.isNoop()) {
+            return authenticate(exchange, chain, Observation.NOOP);
+        }
+        return Mono.deferContextual(context -> {
+            Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                    .contextualName("auth-decision")
+                    .parentObservation(context.getOrDefault(ObservationThreadLocalAccessor.KEY, null))
+                    .start();
+            return authenticate(exchange, chain, observation);
+        });
+    }
+
+    private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain, Observation observation) {
         String path = exchange.getRequest().getPath().value();
+        Decision decision = new Decision(observation, path);
+        RoutePolicy policy = routePolicyTable.resolve(
+                exchange.getRequest().getMethod(), exchange.getRequest().getPath().pathWithinApplication());
 
-        if (isPublicPath(path)) {
+        if (policy.isPublic()) {
+            decision.end(AuthDecisionEvent.PUBLIC, false);
             return chain.filter(exchange);
         }
         
         String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
         
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            decision.end(AuthDecisionEvent.REJECTED, false);
             return unauthorizedResponse(exchange);
         }
         
         String token = authHeader.substring(7);
-        
-        return validateTokenAndExtractUser(token)
-                .flatMap(user -> {
-                    log.debug("✅ [AUTH] User authenticated: {} with role: {}", user.getEmail(), user.getRole().getName());
-                    exchange.getAttributes().put("authenticated_user", user);
-                    return chain.filter(exchange);
-                })
+
+        AuthenticatedPrincipal cachedPrincipal = tokenCache.get(token);
+        boolean cacheHit = cachedPrincipal != null;
+        Mono<AuthenticatedPrincipal> authenticatedPrincipal;
+        if (cacheHit) {
+            authenticatedPrincipal = Mono.just(cachedPrincipal);
+        } else {
+            authenticatedPrincipal = observation.scoped(() -> validateTokenAndExtractPrincipal(token)
+                    .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, observation)));
+        }
+
+        return authenticatedPrincipal
                 .onErrorResume(error -> {
-                    log.warn("❌ [AUTH] Authentication failed for path {}: {}", path, error.getMessage());
-                    if (error.getMessage().contains("Invalid credentials") || error.getMessage().contains("Token validation failed")) {
-                        return unauthorizedResponse(exchange);
+                    decision.end(AuthDecisionEvent.REJECTED, cacheHit);
+                    return rejectAuthentication(exchange, path, error).then(Mono.empty());
+                })
+                .flatMap(principal -> {
+                    User user = principal.user();
+                    if (!policy.permits(principal)) {
+                        decision.end(AuthDecisionEvent.FORBIDDEN, cacheHit);
+                        logRejection(LogCategories.ACCESS_DENIED, "Access denied", path, "missing permissions");
+                        return errorResponseWriter.writeForbidden(exchange, policy.deniedMessage());
                     }
-                    return forbiddenResponse(exchange, error.getMessage());
-                });
+                    decision.end(AuthDecisionEvent.AUTHENTICATED, cacheHit);
+                    exchange.getAttributes().put(AuthorizationUtils.AUTHENTICATED_USER, user);
+                    exchange.getAttributes().put(AuthorizationUtils.AUTHENTICATED_PRINCIPAL, principal);
+                    return chain.filter(exchange);
+                })
+                .doFinally(signal -> decision.end(signal == SignalType.CANCEL
+                        ? AuthDecisionEvent.CANCELLED
+                        : AuthDecisionEvent.INCOMPLETE, cacheHit));
     }
-    
-    private boolean isPublicPath(String path) {
-        return path.equals("/api/v1/auth/login") || 
-               path.equals("/api/v1/roles") ||
-               path.startsWith("/actuator") ||
-               path.startsWith("/swagger") ||
-               path.startsWith("/webjars") ||
-               path.startsWith("/v3/api-docs");
+
+    private Mono<Void> rejectAuthentication(ServerWebExchange exchange, String path, Throwable error) {
+        String message = error.getMessage();
+        logRejection(LogCategories.AUTH_FAILURE, "Authentication failed", path, message);
+        if (message != null && (message.contains("Invalid credentials") || message.contains("Token validation failed"))) {
+            return unauthorizedResponse(exchange);
+        }
+        return errorResponseWriter.writeForbidden(exchange, message);
     }
-    
-    private Mono<User> validateTokenAndExtractUser(String token) {
-        if (!jwtTokenService.isValidToken(token)) {
+
+    private void logRejection(String category, String event, String path, String reason) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        long suppressed = logSampler.tryAcquire(category);
+        if (suppressed != LogSampler.DENIED) {
+            log.atWarn()
+                    .setMessage(event)
+                    .addKeyValue("path", path)
+                    .addKeyValue("reason", reason)
+                    .addKeyValue("suppressed", suppressed)
+                    .log();
+        }
+    }
+
+    private Mono<AuthenticatedPrincipal> validateTokenAndExtractPrincipal(String token) {
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtTokenService.verify(token);
+        } catch (RuntimeException e) {
+            log.debug("Invalid token: {}", e.getMessage());
             return Mono.error(new RuntimeException("Invalid or expired token"));
         }
-        
-        String email = jwtTokenService.extractEmail(token);
-        return loginUseCase.validateUserCredentials(email)
+
+        return loginUseCase.validateUserCredentials(verifiedToken.subject())
+                .flatMap(user -> accountLockout.lockedFor(user).isZero()
+                        ? Mono.just(user)
+                        : Mono.error(new RuntimeException("Account is locked")))
+                .map(user -> new AuthenticatedPrincipal(user, verifiedToken.permissions() != null
+                        ? verifiedToken.permissions()
+                        : permissionRegistry.maskFor(user)))
+                .doOnNext(principal -> tokenCache.put(token, principal, verifiedToken.expiresAt()))
                 .onErrorMap(e -> new RuntimeException("Token validation failed", e));
     }
     
     private Mono<Void> unauthorizedResponse(ServerWebExchange exchange) {
-        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-        exchange.getResponse().getHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-        
-        String path = exchange.getRequest().getPath().value();
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        
-        String errorJson = String.format(
-            "{\"code\":\"UNAUTHORIZED\",\"message\":\"Authentication required. Please provide a valid JWT token.\",\"timestamp\":\"%s\",\"path\":\"%s\"}",
-            timestamp, path
-        );
-        
-        DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(errorJson.getBytes(StandardCharsets.UTF_8));
-        return exchange.getResponse().writeWith(Mono.just(buffer));
+        return errorResponseWriter.write(exchange, HttpStatus.UNAUTHORIZED, ErrorResponseWriter.UNAUTHORIZED);
     }
-    
-    private Mono<Void> forbiddenResponse(ServerWebExchange exchange, String message) {
-        exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
-        exchange.getResponse().getHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-        
-        String path = exchange.getRequest().getPath().value();
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        
-        String errorJson = String.format(
-            "{\"code\":\"FORBIDDEN\",\"message\":\"%s\",\"timestamp\":\"%s\",\"path\":\"%s\"}",
-            message != null ? message : "Access denied. Insufficient permissions.", timestamp, path
-        );
-        
-        DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(errorJson.getBytes(StandardCharsets.UTF_8));
-        return exchange.getResponse().writeWith(Mono.just(buffer));
+
+    /**
+     * Ends the observation and the JFR event of one request exactly once: when the
+     * decision is made, or, for a request cancelled or completed without one, when its
+     * pipeline terminates.
+     */
+    private static final class Decision {
+
+        private final AuthDecisionEvent event = new AuthDecisionEvent();
+        private final Observation observation;
+        private final String path;
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        private Decision(Observation observation, String path) {
+            this.observation = observation;
+            this.path = path;
+            event.begin();
+        }
+
+        void end(String outcome, boolean cacheHit) {
+            if (!ended.compareAndSet(false, true)) {
+                return;
+            }
+            event.end(path, outcome, cacheHit);
+            observation.lowCardinalityKeyValue("outcome", outcome)
+                    .lowCardinalityKeyValue("cache.hit", cacheHit ? "true" : "false")
+                    .stop();
+        }
     }
 }
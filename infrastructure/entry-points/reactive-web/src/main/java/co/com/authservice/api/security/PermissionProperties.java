@@ -0,0 +1,24 @@
+package co.com.authservice.api.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Permission catalogue and role grants.
+ *
+ * @param names permission names; the position in the list is the bit assigned to the
+ *              permission, so new permissions must be appended to keep issued tokens valid
+ * @param roles permissions granted to each role name
+ */
+@ConfigurationProperties(prefix = "security.permissions")
+public record PermissionProperties(
+        List<String> names,
+        Map<String, List<String>> roles) {
+
+    public PermissionProperties {
+        names = names == null ? List.of() : names;
+        roles = roles == null ? Map.of() : roles;
+    }
+}
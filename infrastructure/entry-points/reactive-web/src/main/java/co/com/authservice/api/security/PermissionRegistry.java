@@ -0,0 +1,57 @@
+package co.com.authservice.api.security;
+
+import co.com.authservice.model.user.User;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps permission names to bits and role names to permission bitmasks.
+ *
+ * <p>Built once at startup from {@link PermissionProperties}; afterwards every
+ * authorization check is a constant-time bit test on a {@code long}.</p>
+ */
+@Component
+public class PermissionRegistry {
+
+    private static final int MAX_PERMISSIONS = Long.SIZE;
+
+    private final Map<String, Long> permissionBits = new HashMap<>();
+    private final Map<String, Long> roleMasks = new HashMap<>();
+
+    public PermissionRegistry(PermissionProperties properties) {
+        List<String> names = properties.names();
+        if (names.size() > MAX_PERMISSIONS) {
+            throw new IllegalStateException("At most " + MAX_PERMISSIONS + " permissions are supported");
+        }
+        for (int i = 0; i < names.size(); i++) {
+            if (permissionBits.putIfAbsent(names.get(i), 1L << i) != null) {
+                throw new IllegalStateException("Duplicated permission " + names.get(i));
+            }
+        }
+        properties.roles().forEach((role, permissions) -> roleMasks.put(role, maskOf(permissions)));
+    }
+
+    public long maskOf(Collection<String> permissions) {
+        long mask = 0L;
+        for (String permission : permissions) {
+            Long bit = permissionBits.get(permission);
+            if (bit == null) {
+                throw new IllegalStateException("Unknown permission " + permission);
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    public long maskForRole(String role) {
+        return role == null ? 0L : roleMasks.getOrDefault(role, 0L);
+    }
+
+    public long maskFor(User user) {
+        return user.getRole() == null ? 0L : maskForRole(user.getRole().getName());
+    }
+}
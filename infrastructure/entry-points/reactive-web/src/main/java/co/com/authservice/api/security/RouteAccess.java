@@ -0,0 +1,7 @@
+package co.com.authservice.api.security;
+
+public enum RouteAccess {
+    PUBLIC,
+    AUTHENTICATED,
+    RESTRICTED
+}
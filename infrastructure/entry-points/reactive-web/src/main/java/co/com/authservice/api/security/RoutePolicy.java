@@ -0,0 +1,30 @@
+package co.com.authservice.api.security;
+
+public final class RoutePolicy {
+
+    private final RouteAccess access;
+    private final long requiredPermissions;
+    private final String deniedMessage;
+
+    RoutePolicy(RouteAccess access, long requiredPermissions, String deniedMessage) {
+        this.access = access;
+        this.requiredPermissions = requiredPermissions;
+        this.deniedMessage = deniedMessage;
+    }
+
+    public boolean isPublic() {
+        return access == RouteAccess.PUBLIC;
+    }
+
+    public boolean permits(AuthenticatedPrincipal principal) {
+        return access != RouteAccess.RESTRICTED || principal.hasAll(requiredPermissions);
+    }
+
+    public RouteAccess access() {
+        return access;
+    }
+
+    public String deniedMessage() {
+        return deniedMessage;
+    }
+}
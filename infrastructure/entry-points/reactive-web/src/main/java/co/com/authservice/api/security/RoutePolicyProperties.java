@@ -0,0 +1,38 @@
+package co.com.authservice.api.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "security.route-policy")
+public record RoutePolicyProperties(
+        RouteAccess defaultAccess,
+        List<Rule> rules) {
+
+    public RoutePolicyProperties {
+        defaultAccess = defaultAccess == null ? RouteAccess.AUTHENTICATED : defaultAccess;
+        rules = rules == null ? List.of() : rules;
+    }
+
+    /**
+     * A single entry of the route policy table.
+     *
+     * @param pattern path pattern; {@code *} or {@code {name}} match one segment and a
+     *                trailing {@code /**} matches the path and everything below it
+     * @param methods HTTP methods the rule applies to, all methods when empty
+     * @param access  access level required by the route
+     * @param permissions permissions required when access is {@link RouteAccess#RESTRICTED}
+     */
+    public record Rule(
+            String pattern,
+            List<String> methods,
+            RouteAccess access,
+            List<String> permissions) {
+
+        public Rule {
+            methods = methods == null ? List.of() : methods;
+            access = access == null ? RouteAccess.AUTHENTICATED : access;
+            permissions = permissions == null ? List.of() : permissions;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package co.com.authservice.api.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Route policy table compiled once at startup into a path-segment trie.
+ *
+ * <p>{@link #resolve(HttpMethod, PathContainer)} walks the segments the request has
+ * already parsed, so a lookup allocates nothing. Each segment is compared by its
+ * {@link PathContainer.PathSegment#valueToMatch() valueToMatch}: percent-decoded and with
+ * matrix parameters removed, exactly what the router's path patterns match on, so
+ * {@code /api/v1/us%65r;x=1} resolves to the same policy as the route it reaches. Literal
+ * segments take precedence over single-segment wildcards and there is no backtracking.
+ * An exact match wins over a {@code /**} prefix match, and the deepest prefix wins
+ * among prefix matches. When several rules target the same route and method, the one
+ * declared first wins.</p>
+ */
+@Component
+public class RoutePolicyTable {
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS", "TRACE"};
+    private static final String PREFIX_SUFFIX = "/**";
+
+    private final Node root = new Node();
+    private final RoutePolicy defaultPolicy;
+    private final PermissionRegistry permissionRegistry;
+
+    public RoutePolicyTable(RoutePolicyProperties properties, PermissionRegistry permissionRegistry) {
+        this.permissionRegistry = permissionRegistry;
+        this.defaultPolicy = new RoutePolicy(properties.defaultAccess(), 0L, null);
+        properties.rules().forEach(this::compile);
+    }
+
+    public RoutePolicy resolve(HttpMethod method, PathContainer path) {
+        int methodIndex = indexOf(method.name());
+        if (methodIndex < 0) {
+            return defaultPolicy;
+        }
+
+        Node node = root;
+        RoutePolicy prefixMatch = node.prefix[methodIndex];
+        List<PathContainer.Element> elements = path.elements();
+        for (int i = 0; i < elements.size(); i++) {
+            if (!(elements.get(i) instanceof PathContainer.PathSegment segment) || segment.valueToMatch().isEmpty()) {
+                continue;
+            }
+            node = node.child(segment.valueToMatch());
+            if (node == null) {
+                return prefixMatch != null ? prefixMatch : defaultPolicy;
+            }
+            if (node.prefix[methodIndex] != null) {
+                prefixMatch = node.prefix[methodIndex];
+            }
+        }
+
+        if (node.exact[methodIndex] != null) {
+            return node.exact[methodIndex];
+        }
+        return prefixMatch != null ? prefixMatch : defaultPolicy;
+    }
+
+    private void compile(RoutePolicyProperties.Rule rule) {
+        String pattern = rule.pattern();
+        boolean prefix = pattern.endsWith(PREFIX_SUFFIX);
+        if (prefix) {
+            pattern = pattern.substring(0, pattern.length() - PREFIX_SUFFIX.length());
+        }
+        if (rule.access() == RouteAccess.RESTRICTED && rule.permissions().isEmpty()) {
+            throw new IllegalStateException("Restricted route " + rule.pattern() + " must declare at least one permission");
+        }
+
+        Node node = root;
+        for (String segment : pattern.split("/")) {
+            if (!segment.isEmpty()) {
+                node = node.getOrCreateChild(segment);
+            }
+        }
+
+        RoutePolicy policy = new RoutePolicy(
+                rule.access(),
+                permissionRegistry.maskOf(rule.permissions()),
+                "Access denied. Permissions " + rule.permissions() + " required.");
+        RoutePolicy[] slots = prefix ? node.prefix : node.exact;
+        for (int i = 0; i < METHODS.length; i++) {
+            if (slots[i] == null && appliesTo(rule, METHODS[i])) {
+                slots[i] = policy;
+            }
+        }
+    }
+
+    private static boolean appliesTo(RoutePolicyProperties.Rule rule, String method) {
+        return rule.methods().isEmpty() || rule.methods().stream().anyMatch(method::equalsIgnoreCase);
+    }
+
+    private static int indexOf(String method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWildcard(String segment) {
+        return "*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"));
+    }
+
+    private static final class Node {
+        private String[] keys = new String[0];
+        private Node[] children = new Node[0];
+        private Node wildcard;
+        private final RoutePolicy[] exact = new RoutePolicy[METHODS.length];
+        private final RoutePolicy[] prefix = new RoutePolicy[METHODS.length];
+
+        Node child(String segment) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            return wildcard;
+        }
+
+        Node getOrCreateChild(String segment) {
+            if (isWildcard(segment)) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            Node child = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = segment;
+            children[children.length - 1] = child;
+            return child;
+        }
+    }
+}
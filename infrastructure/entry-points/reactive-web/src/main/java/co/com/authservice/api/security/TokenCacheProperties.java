@@ -0,0 +1,18 @@
+package co.com.authservice.api.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "security.token-cache")
+public record TokenCacheProperties(
+        Boolean enabled,
+        Integer maxEntries,
+        Duration maxTtl) {
+
+    public TokenCacheProperties {
+        enabled = enabled == null || enabled;
+        maxEntries = maxEntries == null ? 8192 : maxEntries;
+        maxTtl = maxTtl == null ? Duration.ofMinutes(5) : maxTtl;
+    }
+}
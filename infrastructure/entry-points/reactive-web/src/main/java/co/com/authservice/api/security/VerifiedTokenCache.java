@@ -0,0 +1,137 @@
+package co.com.authservice.api.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of already verified bearer tokens.
+ *
+ * <p>Entries live in a fixed, power-of-two sized slot table indexed by a hash of the
+ * raw token, so memory is capped at {@code maxEntries} no matter how many distinct
+ * tokens are presented. A slot collision simply replaces the previous entry. Lookups
+ * compare the full token before returning a principal, so a hash collision can never
+ * authenticate a different token.</p>
+ *
+ * <p>Entries expire at the token's {@code exp} claim, capped by {@code maxTtl}. There is
+ * no token revocation or role-change path, so such changes take effect within
+ * {@code min(exp, maxTtl)}. The one exception is an account lockout, which drops the
+ * account's entries through {@link #invalidateSubject(String)}.</p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final int MAX_CAPACITY = 1 << 20;
+
+    private final boolean enabled;
+    private final long maxTtlMillis;
+    private final int mask;
+    private final AtomicReferenceArray<Entry> slots;
+    private final Clock clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public VerifiedTokenCache(TokenCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(TokenCacheProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        int capacity = tableSizeFor(properties.maxEntries());
+        this.enabled = properties.enabled();
+        this.maxTtlMillis = properties.maxTtl().toMillis();
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.clock = clock;
+        registerMetrics(meterRegistry, capacity);
+    }
+
+    public AuthenticatedPrincipal get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        int index = indexFor(token);
+        Entry entry = slots.get(index);
+        if (entry != null && entry.token().equals(token)) {
+            if (entry.expiresAtMillis() > clock.millis()) {
+                hits.increment();
+                return entry.principal();
+            }
+            slots.compareAndSet(index, entry, null);
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String token, AuthenticatedPrincipal principal, Instant expiresAt) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        long cap = now + maxTtlMillis;
+        long expiresAtMillis = expiresAt.isBefore(Instant.ofEpochMilli(cap)) ? expiresAt.toEpochMilli() : cap;
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        int index = indexFor(token);
+        Entry previous = slots.getAndSet(index, new Entry(token, principal, expiresAtMillis));
+        if (previous != null && !previous.token().equals(token) && previous.expiresAtMillis() > now) {
+            evictions.increment();
+        }
+    }
+
+    public void invalidateSubject(String email) {
+        for (int i = 0; i < slots.length(); i++) {
+            Entry entry = slots.get(i);
+            if (entry != null && email.equals(entry.principal().user().getEmail())) {
+                slots.compareAndSet(i, entry, null);
+            }
+        }
+    }
+
+    double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private int indexFor(String token) {
+        int h = token.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h & mask;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry, int capacity) {
+        FunctionCounter.builder("authservice.auth.token.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("authservice.auth.token.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("authservice.auth.token.cache.evictions", evictions, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("authservice.auth.token.cache.hit.ratio", this, VerifiedTokenCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("authservice.auth.token.cache.capacity", () -> capacity)
+                .register(meterRegistry);
+    }
+
+    private static int tableSizeFor(int maxEntries) {
+        int n = Math.max(1, Math.min(maxEntries, MAX_CAPACITY));
+        return n == 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    private record Entry(String token, AuthenticatedPrincipal principal, long expiresAtMillis) {
+    }
+}
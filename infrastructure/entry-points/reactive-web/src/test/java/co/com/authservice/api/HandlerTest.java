@@ -2,6 +2,8 @@ package co.com.authservice.api;
 
 import co.com.authservice.api.dto.request.CreateUserDTO;
 import co.com.authservice.api.dto.response.UserResponseDTO;
+import co.com.authservice.api.http.CacheableResponseWriter;
+import co.com.authservice.api.http.DtoCodecs;
 import co.com.authservice.api.mapper.UserDTOMapper;
 import co.com.authservice.model.role.Role;
 import co.com.authservice.model.user.User;
@@ -9,6 +11,7 @@ import co.com.authservice.model.user.exceptions.user.EmailAlreadyExistsException
 import co.com.authservice.model.user.exceptions.user.InvalidAgeException;
 import co.com.authservice.model.user.exceptions.user.InvalidSalaryException;
 import co.com.authservice.usecase.user.UserUseCase;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import jakarta.validation.ConstraintViolation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +20,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.mock.web.reactive.function.server.MockServerRequest;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
@@ -50,6 +55,11 @@ class HandlerTest {
     @Mock
     private jakarta.validation.Validator validator;
 
+    @Spy
+    private CacheableResponseWriter cacheableResponseWriter =
+            new CacheableResponseWriter(
+                    new DtoCodecs(JsonMapper.builder().findAndAddModules().build(), new Jackson2ObjectMapperBuilder()));
+
     @InjectMocks
     private Handler handler;
 
@@ -1,22 +1,40 @@
 package co.com.authservice.api.config;
 
+import co.com.authservice.api.dto.response.ErrorResponseDTO;
+import co.com.authservice.api.logging.LogSampler;
+import co.com.authservice.api.ratelimit.RateLimitExceededException;
 import co.com.authservice.model.user.exceptions.user.EmailAlreadyExistsException;
 import co.com.authservice.model.user.exceptions.user.InvalidAgeException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.test.StepVerifier;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,11 +44,15 @@ class SimpleGlobalExceptionHandlerTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private ObjectWriter errorWriter;
+
     private GlobalExceptionHandler exceptionHandler;
 
     @BeforeEach
     void setUp() {
-        exceptionHandler = new GlobalExceptionHandler(objectMapper);
+        when(objectMapper.writerFor(ErrorResponseDTO.class)).thenReturn(errorWriter);
+        exceptionHandler = new GlobalExceptionHandler(objectMapper, new LogSampler(10, Duration.ofSeconds(1)));
     }
 
     @Test
@@ -98,20 +120,53 @@ class SimpleGlobalExceptionHandlerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, status);
     }
 
+    @Test
+    @DisplayName("Should serialize the error body into a data buffer")
+    void shouldSerializeErrorIntoDataBuffer() throws Exception {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(
+                JsonMapper.builder().findAndAddModules().build(), new LogSampler(10, Duration.ofSeconds(1)));
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.of("TEST_CODE", "Test message", "/test/path");
+
+        DataBuffer result = invokeSerializeError(handler, errorResponse);
+
+        String resultString = result.toString(StandardCharsets.UTF_8);
+        assertTrue(resultString.startsWith("{\"code\":\"TEST_CODE\""));
+        assertTrue(resultString.contains("\"path\":\"/test/path\""));
+    }
+
     @Test
     @DisplayName("Should use fallback when serialization fails")
     void shouldUseFallbackWhenSerializationFails() throws Exception {
-        co.com.authservice.api.dto.response.ErrorResponseDTO errorResponse = 
-            co.com.authservice.api.dto.response.ErrorResponseDTO.of("TEST_CODE", "Test message", "/test/path");
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.of("TEST_CODE", "Test message", "/test/path");
 
-        when(objectMapper.writeValueAsBytes(org.mockito.ArgumentMatchers.any()))
-            .thenThrow(new RuntimeException("Serialization failed"));
+        doThrow(new IOException("Serialization failed"))
+            .when(errorWriter).writeValue(any(OutputStream.class), any());
 
-        Method serializeErrorMethod = GlobalExceptionHandler.class.getDeclaredMethod("serializeError", co.com.authservice.api.dto.response.ErrorResponseDTO.class);
-        serializeErrorMethod.setAccessible(true);
-        byte[] result = (byte[]) serializeErrorMethod.invoke(exceptionHandler, errorResponse);
+        DataBuffer result = invokeSerializeError(exceptionHandler, errorResponse);
 
-        String resultString = new String(result);
+        String resultString = result.toString(StandardCharsets.UTF_8);
         assertTrue(resultString.contains("SERIALIZATION_ERROR"));
     }
+
+    @Test
+    @DisplayName("Should answer rate-limited logins with 429 and Retry-After")
+    void shouldMapRateLimitExceededToTooManyRequests() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(
+                JsonMapper.builder().findAndAddModules().build(), new LogSampler(10, Duration.ofSeconds(1)));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/auth/login"));
+
+        StepVerifier.create(handler.handle(exchange, new RateLimitExceededException(Duration.ofSeconds(12))))
+                .verifyComplete();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        assertEquals("12", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private static DataBuffer invokeSerializeError(GlobalExceptionHandler handler, ErrorResponseDTO errorResponse)
+            throws Exception {
+        Method serializeErrorMethod = GlobalExceptionHandler.class.getDeclaredMethod(
+                "serializeError", DataBufferFactory.class, ErrorResponseDTO.class);
+        serializeErrorMethod.setAccessible(true);
+        return (DataBuffer) serializeErrorMethod.invoke(handler, DefaultDataBufferFactory.sharedInstance, errorResponse);
+    }
 }
@@ -0,0 +1,65 @@
+package co.com.authservice.api.config;
+
+import co.com.authservice.api.http.CacheableResponseWriter;
+import co.com.authservice.api.http.DtoCodecs;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+
+class StaticOpenApiConfigTest {
+
+    private static final String DOCUMENT = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Auth Service API\"}}";
+
+    private CacheableResponseWriter responseWriter;
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        responseWriter = new CacheableResponseWriter(
+                new DtoCodecs(JsonMapper.builder().findAndAddModules().build(), new Jackson2ObjectMapperBuilder()));
+        webTestClient = WebTestClient.bindToRouterFunction(StaticOpenApiConfig.staticOpenApiRoute(
+                new ByteArrayResource(DOCUMENT.getBytes(StandardCharsets.UTF_8)), responseWriter)).build();
+    }
+
+    @Test
+    @DisplayName("Should serve the pre-generated document as JSON with an ETag")
+    void shouldServeDocument() {
+        webTestClient.get().uri(StaticOpenApiConfig.PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody(String.class).isEqualTo(DOCUMENT);
+    }
+
+    @Test
+    @DisplayName("Should answer 404 when no document was packaged")
+    void shouldAnswerNotFoundWithoutDocument() {
+        WebTestClient client = WebTestClient.bindToRouterFunction(StaticOpenApiConfig.staticOpenApiRoute(
+                new ClassPathResource("openapi/missing.json"), responseWriter)).build();
+
+        client.get().uri(StaticOpenApiConfig.PATH)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when the client already has the document")
+    void shouldAnswerNotModified() {
+        String eTag = CacheableResponseWriter.eTagOf(DOCUMENT.getBytes(StandardCharsets.UTF_8));
+
+        webTestClient.get().uri(StaticOpenApiConfig.PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+}
@@ -0,0 +1,93 @@
+package co.com.authservice.api.http;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheableResponseWriterTest {
+
+    private static final CacheControl CACHE = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private final CacheableResponseWriter writer =
+            new CacheableResponseWriter(
+                    new DtoCodecs(JsonMapper.builder().findAndAddModules().build(), new Jackson2ObjectMapperBuilder()));
+
+    @Test
+    @DisplayName("Should return 200 with a weak ETag and the caching policy")
+    void shouldReturnOkWithETag() {
+        StepVerifier.create(writer.ok(MockServerRequest.builder().build(), List.of(Map.of("id", 1)), CACHE))
+                .assertNext(response -> {
+                    assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.headers().getETag()).startsWith("W/\"");
+                    assertThat(response.headers().getCacheControl()).isEqualTo("max-age=300, public");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should answer in CBOR with Vary: Accept when the client prefers it")
+    void shouldNegotiateCbor() {
+        MockServerRequest request = MockServerRequest.builder()
+                .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor")
+                .build();
+
+        StepVerifier.create(writer.ok(request, List.of(Map.of("id", 1)), CACHE))
+                .assertNext(response -> {
+                    assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.headers().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+                    assertThat(response.headers().getVary()).containsExactly(HttpHeaders.ACCEPT);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return 304 when If-None-Match names the current ETag")
+    void shouldReturnNotModified() {
+        byte[] json = "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8);
+        String eTag = CacheableResponseWriter.eTagOf(json);
+        MockServerRequest request = MockServerRequest.builder()
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + eTag)
+                .build();
+
+        StepVerifier.create(writer.ok(request, json, eTag, CACHE))
+                .assertNext(response -> {
+                    assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+                    assertThat(response.headers().getETag()).isEqualTo(eTag);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should derive the same ETag for the same content only")
+    void shouldDeriveStableETag() {
+        byte[] first = "[1]".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "[2]".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(CacheableResponseWriter.eTagOf(first)).isEqualTo(CacheableResponseWriter.eTagOf(first.clone()));
+        assertThat(CacheableResponseWriter.eTagOf(first)).isNotEqualTo(CacheableResponseWriter.eTagOf(second));
+    }
+
+    @Test
+    @DisplayName("Should match weak validators and the wildcard on If-None-Match")
+    void shouldUseWeakComparison() {
+        assertThat(CacheableResponseWriter.isNotModified(List.of("W/\"abc\""), "\"abc\"")).isTrue();
+        assertThat(CacheableResponseWriter.isNotModified(List.of("\"abc\""), "W/\"abc\"")).isTrue();
+        assertThat(CacheableResponseWriter.isNotModified(List.of("*"), "\"abc\"")).isTrue();
+        assertThat(CacheableResponseWriter.isNotModified(List.of("\"abd\""), "\"abc\"")).isFalse();
+        assertThat(CacheableResponseWriter.isNotModified(List.of(), "\"abc\"")).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package co.com.authservice.api.http;
+
+import co.com.authservice.api.dto.response.LoginResponseDTO;
+import co.com.authservice.api.dto.response.RoleResponseDTO;
+import co.com.authservice.api.dto.response.UserResponseDTO;
+import co.com.authservice.api.dto.response.UserSummaryDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProtobufDtoCodecTest {
+
+    private static final RoleResponseDTO ROLE = new RoleResponseDTO(2L, "CLIENT", "Regular client user");
+    private static final UserResponseDTO USER = new UserResponseDTO(1L, "123456789", "Juan", "Pérez",
+            LocalDate.of(1990, 5, 15), "Calle 123 #45-67", "+57 300 123 4567", new BigDecimal("5000000.00"),
+            "juan.perez@email.com", ROLE);
+
+    @Test
+    @DisplayName("Should write the wire format declared in the .proto schema")
+    void shouldWriteSchemaWireFormat() {
+        byte[] encoded = ProtobufDtoCodec.encode(new RoleResponseDTO(2L, "CLIENT", null));
+
+        byte[] expected = new byte[]{0x08, 0x02, 0x12, 0x06, 'C', 'L', 'I', 'E', 'N', 'T'};
+        assertThat(encoded).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should round-trip a user including dates, decimals and the nested role")
+    void shouldRoundTripUser() {
+        byte[] encoded = ProtobufDtoCodec.encode(USER);
+
+        assertThat(ProtobufDtoCodec.decode(encoded, UserResponseDTO.class)).isEqualTo(USER);
+    }
+
+    @Test
+    @DisplayName("Should round-trip a login response")
+    void shouldRoundTripLogin() {
+        LoginResponseDTO login = new LoginResponseDTO("header.payload.signature", 3600L,
+                new UserSummaryDTO(1L, "Juan Pérez", "juan.perez@email.com", ROLE));
+
+        byte[] encoded = ProtobufDtoCodec.encode(login);
+
+        assertThat(ProtobufDtoCodec.decode(encoded, LoginResponseDTO.class)).isEqualTo(login);
+    }
+
+    @Test
+    @DisplayName("Should leave null components out and read them back as null")
+    void shouldOmitNullComponents() {
+        UserResponseDTO sparse = new UserResponseDTO(7L, null, null, null, null, null, null, null, null, null);
+
+        byte[] encoded = ProtobufDtoCodec.encode(sparse);
+
+        assertThat(encoded).hasSize(2);
+        assertThat(ProtobufDtoCodec.decode(encoded, UserResponseDTO.class)).isEqualTo(sparse);
+    }
+
+    @Test
+    @DisplayName("Should round-trip a user list and skip unknown fields")
+    void shouldRoundTripUserList() {
+        List<UserResponseDTO> users = List.of(USER, new UserResponseDTO(2L, "987", "Ana", null, null, null,
+                null, null, "ana@email.com", null));
+        byte[] encoded = ProtobufDtoCodec.encode(users);
+        byte[] unknownField = {(byte) 0x7a, 0x02, 'x', 'y'};
+        byte[] withUnknown = new byte[encoded.length + unknownField.length];
+        System.arraycopy(encoded, 0, withUnknown, 0, encoded.length);
+        System.arraycopy(unknownField, 0, withUnknown, encoded.length, unknownField.length);
+
+        assertThat(ProtobufDtoCodec.decodeUsers(withUnknown)).isEqualTo(users);
+    }
+
+    @Test
+    @DisplayName("Should reject bodies without a protobuf mapping")
+    void shouldRejectUnmappedBodies() {
+        assertThat(ProtobufDtoCodec.supports(Map.of("id", 1))).isFalse();
+        assertThat(ProtobufDtoCodec.supports(List.of("a"))).isFalse();
+        assertThatThrownBy(() -> ProtobufDtoCodec.encode(Map.of("id", 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProtobufDtoCodec.decode("x".getBytes(StandardCharsets.UTF_8), String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package co.com.authservice.api.http;
+
+import co.com.authservice.api.dto.response.UserResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseFormatTest {
+
+    private static final UserResponseDTO USER =
+            new UserResponseDTO(1L, "123", "Juan", "Perez", null, null, null, null, "juan@test.com", null);
+
+    @Test
+    @DisplayName("Should default to JSON without an Accept header or for wildcards")
+    void shouldDefaultToJson() {
+        assertThat(ResponseFormat.negotiate(List.of(), USER)).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate(MediaType.parseMediaTypes("*/*"), USER)).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate(MediaType.parseMediaTypes("application/*"), USER))
+                .isEqualTo(ResponseFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("Should pick the binary format with the highest quality")
+    void shouldHonourQuality() {
+        assertThat(ResponseFormat.negotiate(
+                MediaType.parseMediaTypes("application/json;q=0.9, application/x-protobuf"), USER))
+                .isEqualTo(ResponseFormat.PROTOBUF);
+        assertThat(ResponseFormat.negotiate(
+                MediaType.parseMediaTypes("application/cbor, application/json"), USER))
+                .isEqualTo(ResponseFormat.CBOR);
+    }
+
+    @Test
+    @DisplayName("Should fall back when the body has no protobuf mapping")
+    void shouldFallBackForUnmappedBodies() {
+        assertThat(ResponseFormat.negotiate(MediaType.parseMediaTypes("application/x-protobuf"), Map.of("id", 1)))
+                .isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate(
+                MediaType.parseMediaTypes("application/x-protobuf, application/cbor;q=0.5"), Map.of("id", 1)))
+                .isEqualTo(ResponseFormat.CBOR);
+    }
+}
@@ -0,0 +1,109 @@
+package co.com.authservice.api.http;
+
+import co.com.authservice.api.dto.response.RoleResponseDTO;
+import co.com.authservice.api.mapper.UserDTOMapper;
+import co.com.authservice.model.role.Role;
+import co.com.authservice.usecase.role.RoleUseCase;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RolesPayloadCacheTest {
+
+    @Mock
+    private RoleUseCase roleUseCase;
+
+    @Mock
+    private UserDTOMapper userDTOMapper;
+
+    private RolesPayloadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RolesPayloadCache(roleUseCase, userDTOMapper, JsonMapper.builder().build(),
+                new RolesPayloadProperties(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("Should load the payload on first use")
+    void shouldLoadPayloadOnFirstUse() {
+        Role admin = Role.builder().id(1L).name("ADMIN").build();
+        when(roleUseCase.getAllRoles()).thenReturn(Flux.just(admin));
+        when(userDTOMapper.toResponse(any(Role.class))).thenReturn(new RoleResponseDTO(1L, "ADMIN", "Administrator"));
+
+        assertThat(cache.current()).isNull();
+        StepVerifier.create(cache.payload())
+                .assertNext(payload -> {
+                    assertThat(new String(payload.json())).contains("\"ADMIN\"");
+                    assertThat(payload.eTag()).isEqualTo(CacheableResponseWriter.eTagOf(payload.json()));
+                })
+                .verifyComplete();
+        assertThat(cache.current()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the same payload when the roles did not change")
+    void shouldKeepPayloadWhenUnchanged() {
+        when(roleUseCase.getAllRoles()).thenReturn(Flux.just(Role.builder().id(1L).name("ADMIN").build()));
+        when(userDTOMapper.toResponse(any(Role.class))).thenReturn(new RoleResponseDTO(1L, "ADMIN", "Administrator"));
+
+        RolesPayloadCache.Payload first = cache.refresh().block();
+        RolesPayloadCache.Payload second = cache.refresh().block();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should replace the payload and ETag when the roles change")
+    void shouldReplacePayloadWhenChanged() {
+        when(roleUseCase.getAllRoles()).thenReturn(Flux.just(Role.builder().id(1L).name("ADMIN").build()));
+        when(userDTOMapper.toResponse(any(Role.class)))
+                .thenReturn(new RoleResponseDTO(1L, "ADMIN", "Administrator"))
+                .thenReturn(new RoleResponseDTO(1L, "ADMIN", "Platform administrator"));
+
+        RolesPayloadCache.Payload first = cache.refresh().block();
+        RolesPayloadCache.Payload second = cache.refresh().block();
+
+        assertThat(second.eTag()).isNotEqualTo(first.eTag());
+        assertThat(cache.current()).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Should share one load between callers that arrive while it is in flight")
+    void shouldShareInFlightLoad() {
+        Sinks.Many<Role> roles = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicInteger loads = new AtomicInteger();
+        when(roleUseCase.getAllRoles()).thenReturn(Flux.defer(() -> {
+            loads.incrementAndGet();
+            return roles.asFlux();
+        }));
+        when(userDTOMapper.toResponse(any(Role.class))).thenReturn(new RoleResponseDTO(1L, "ADMIN", "Administrator"));
+
+        AtomicReference<RolesPayloadCache.Payload> first = new AtomicReference<>();
+        AtomicReference<RolesPayloadCache.Payload> second = new AtomicReference<>();
+        cache.payload().subscribe(first::set);
+        cache.payload().subscribe(second::set);
+
+        roles.tryEmitNext(Role.builder().id(1L).name("ADMIN").build());
+        roles.tryEmitComplete();
+
+        assertThat(loads).hasValue(1);
+        assertThat(first.get()).isNotNull().isSameAs(second.get());
+    }
+}
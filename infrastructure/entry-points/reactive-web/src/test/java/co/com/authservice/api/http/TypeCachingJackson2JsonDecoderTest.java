@@ -0,0 +1,44 @@
+package co.com.authservice.api.http;
+
+import co.com.authservice.api.dto.request.LoginRequestDTO;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TypeCachingJackson2JsonDecoderTest {
+
+    private final TypeCachingJackson2JsonDecoder decoder =
+            new TypeCachingJackson2JsonDecoder(JsonMapper.builder().build());
+
+    @Test
+    @DisplayName("Should decode request bodies with the cached reader")
+    void shouldDecodeRequestBody() {
+        Object decoded = decoder.decode(buffer("{\"email\":\"user@test.com\",\"password\":\"secret\"}"),
+                ResolvableType.forClass(LoginRequestDTO.class), MediaType.APPLICATION_JSON, null);
+
+        assertThat(decoded).isEqualTo(new LoginRequestDTO("user@test.com", "secret"));
+    }
+
+    @Test
+    @DisplayName("Should raise DecodingException for malformed JSON")
+    void shouldRaiseDecodingExceptionForMalformedJson() {
+        assertThatThrownBy(() -> decoder.decode(buffer("{\"email\":"),
+                ResolvableType.forClass(LoginRequestDTO.class), MediaType.APPLICATION_JSON, null))
+                .isInstanceOf(DecodingException.class)
+                .hasMessageStartingWith("JSON decoding error");
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,47 @@
+package co.com.authservice.api.http;
+
+import co.com.authservice.api.dto.response.RoleResponseDTO;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeCachingJackson2JsonEncoderTest {
+
+    private final TypeCachingJackson2JsonEncoder encoder =
+            new TypeCachingJackson2JsonEncoder(JsonMapper.builder().build());
+
+    @Test
+    @DisplayName("Should write a value into a buffer from the given factory")
+    void shouldEncodeValueIntoBuffer() {
+        DataBuffer buffer = encoder.encodeValue(new RoleResponseDTO(2L, "CLIENT", "Regular client user"),
+                DefaultDataBufferFactory.sharedInstance, ResolvableType.forClass(RoleResponseDTO.class),
+                MediaType.APPLICATION_JSON, null);
+
+        assertThat(buffer.toString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"id\":2,\"name\":\"CLIENT\",\"description\":\"Regular client user\"}");
+    }
+
+    @Test
+    @DisplayName("Should encode a list with its declared element type through the publisher API")
+    void shouldEncodeDeclaredListType() {
+        List<RoleResponseDTO> roles = List.of(new RoleResponseDTO(1L, "ADMIN", null));
+
+        StepVerifier.create(encoder.encode(Mono.just(roles), DefaultDataBufferFactory.sharedInstance,
+                        ResolvableType.forClassWithGenerics(List.class, RoleResponseDTO.class),
+                        MediaType.APPLICATION_JSON, null))
+                .assertNext(buffer -> assertThat(buffer.toString(StandardCharsets.UTF_8))
+                        .isEqualTo("[{\"id\":1,\"name\":\"ADMIN\",\"description\":null}]"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,126 @@
+package co.com.authservice.api.lockout;
+
+import co.com.authservice.api.security.VerifiedTokenCache;
+import co.com.authservice.model.lockout.LoginFailure;
+import co.com.authservice.model.lockout.gateways.LoginFailureRepository;
+import co.com.authservice.model.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AccountLockout - Failed Login Tracking Tests")
+class AccountLockoutTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:30:00Z");
+
+    private LoginFailureRepository repository;
+    private VerifiedTokenCache tokenCache;
+    private AccountLockout lockout;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(LoginFailureRepository.class);
+        when(repository.saveAll(anyList())).thenReturn(Mono.empty());
+        tokenCache = mock(VerifiedTokenCache.class);
+        lockout = new AccountLockout(new LockoutProperties(true, 3, Duration.ofMinutes(15), Duration.ofSeconds(5), 2),
+                repository, tokenCache, new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC));
+        user = User.builder().id(7L).email("user@mail.com").build();
+    }
+
+    @Test
+    @DisplayName("Should lock the account after the configured failures without writing")
+    void shouldLockAfterMaxFailures() {
+        lockout.recordFailure(user);
+        lockout.recordFailure(user);
+        assertEquals(Duration.ZERO, lockout.lockedFor(user));
+
+        lockout.recordFailure(user);
+
+        assertEquals(Duration.ofMinutes(15), lockout.lockedFor(user));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should drop the account's cached tokens only when it gets locked")
+    void shouldInvalidateCachedTokensOnLock() {
+        lockout.recordFailure(user);
+        lockout.recordFailure(user);
+        verify(tokenCache, never()).invalidateSubject("user@mail.com");
+
+        lockout.recordFailure(user);
+
+        verify(tokenCache).invalidateSubject("user@mail.com");
+    }
+
+    @Test
+    @DisplayName("Should honour failures and lockouts persisted on the user row")
+    void shouldReadPersistedState() {
+        User locked = user.toBuilder().lockedUntil(NOW.plusSeconds(30)).build();
+        assertEquals(Duration.ofSeconds(30), lockout.lockedFor(locked));
+
+        User failedTwice = user.toBuilder().failedLoginAttempts(2).build();
+        lockout.recordFailure(failedTwice);
+        assertEquals(Duration.ofMinutes(15), lockout.lockedFor(failedTwice));
+    }
+
+    @Test
+    @DisplayName("Should flush dirty accounts in batches and drop settled ones from memory")
+    @SuppressWarnings("unchecked")
+    void shouldFlushInBatches() {
+        lockout.recordFailure(user);
+        lockout.recordFailure(User.builder().id(8L).build());
+        lockout.recordFailure(User.builder().id(9L).build());
+
+        StepVerifier.create(lockout.flush()).verifyComplete();
+
+        ArgumentCaptor<List<LoginFailure>> batches = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).saveAll(batches.capture());
+        assertEquals(3, batches.getAllValues().stream().mapToInt(List::size).sum());
+        assertEquals(0, lockout.tracked());
+    }
+
+    @Test
+    @DisplayName("Should keep failed batches dirty for the next flush")
+    void shouldRetryFailedBatches() {
+        when(repository.saveAll(anyList())).thenReturn(Mono.error(new IllegalStateException("down")));
+        lockout.recordFailure(user);
+
+        StepVerifier.create(lockout.flush()).verifyComplete();
+        when(repository.saveAll(anyList())).thenReturn(Mono.empty());
+        StepVerifier.create(lockout.flush()).verifyComplete();
+
+        verify(repository, times(2)).saveAll(List.of(new LoginFailure(7L, 1, null)));
+    }
+
+    @Test
+    @DisplayName("Should only write a success that clears earlier failures")
+    void shouldResetOnSuccess() {
+        lockout.recordSuccess(user);
+        StepVerifier.create(lockout.flush()).verifyComplete();
+        verifyNoInteractions(repository);
+
+        lockout.recordSuccess(user.toBuilder().failedLoginAttempts(2).build());
+        StepVerifier.create(lockout.flush()).verifyComplete();
+        verify(repository).saveAll(List.of(new LoginFailure(7L, 0, null)));
+    }
+}
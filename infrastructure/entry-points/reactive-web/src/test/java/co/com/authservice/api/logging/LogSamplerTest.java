@@ -0,0 +1,40 @@
+package co.com.authservice.api.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("LogSampler - Log Rate Limiting Tests")
+class LogSamplerTest {
+
+    @Test
+    @DisplayName("Should allow permits per window and report suppressed statements")
+    void shouldLimitPerWindow() {
+        AtomicLong now = new AtomicLong();
+        LogSampler sampler = new LogSampler(2, Map.of(), Duration.ofSeconds(1), now::get);
+
+        assertEquals(0, sampler.tryAcquire("EmailAlreadyExistsException"));
+        assertEquals(0, sampler.tryAcquire("EmailAlreadyExistsException"));
+        assertEquals(LogSampler.DENIED, sampler.tryAcquire("EmailAlreadyExistsException"));
+        assertEquals(LogSampler.DENIED, sampler.tryAcquire("EmailAlreadyExistsException"));
+        assertEquals(0, sampler.tryAcquire("InvalidAgeException"));
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertEquals(2, sampler.tryAcquire("EmailAlreadyExistsException"));
+    }
+
+    @Test
+    @DisplayName("Should apply per-category permits")
+    void shouldApplyPerCategoryPermits() {
+        LogSampler sampler = new LogSampler(1, Map.of("auth-failure", 0), Duration.ofSeconds(1), () -> 0L);
+
+        assertEquals(LogSampler.DENIED, sampler.tryAcquire("auth-failure"));
+        assertEquals(0, sampler.tryAcquire("client-error"));
+    }
+}
@@ -0,0 +1,69 @@
+package co.com.authservice.api.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ClientIpResolver - Trusted Proxy Tests")
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = resolver(List.of("10.0.0.0/8", "2001:db8::/32"));
+
+    @Test
+    @DisplayName("Should ignore X-Forwarded-For from a client that is not a trusted proxy")
+    void shouldIgnoreForwardedHeaderFromClients() {
+        assertEquals("198.51.100.4", resolver.resolve(request("198.51.100.4", "203.0.113.9")));
+    }
+
+    @Test
+    @DisplayName("Should ignore X-Forwarded-For when no proxy is trusted")
+    void shouldUseSocketAddressWithoutTrustedProxies() {
+        assertEquals("10.0.0.7", resolver(List.of()).resolve(request("10.0.0.7", "203.0.113.9")));
+    }
+
+    @Test
+    @DisplayName("Should take the rightmost address that is not a trusted proxy")
+    void shouldSkipTrustedHops() {
+        assertEquals("203.0.113.9", resolver.resolve(request("10.0.0.7", "1.2.3.4, 203.0.113.9, 10.1.1.1")));
+        assertEquals("203.0.113.9", resolver.resolve(request("10.0.0.7", "1.2.3.4", "203.0.113.9:4711")));
+    }
+
+    @Test
+    @DisplayName("Should stop at the last trusted hop when the header is malformed")
+    void shouldStopAtMalformedHop() {
+        assertEquals("10.1.1.1", resolver.resolve(request("10.0.0.7", "evil.example.com, 10.1.1.1")));
+        assertEquals("10.0.0.7", resolver.resolve(request("10.0.0.7")));
+    }
+
+    @Test
+    @DisplayName("Should match IPv6 ranges and parse bracketed addresses")
+    void shouldHandleIpv6() {
+        assertEquals("2001:db9::1", resolver.resolve(request("2001:db8::5", "[2001:db9::1]:443")));
+        assertNull(ClientIpResolver.parse("[2001:db9::1"));
+    }
+
+    @Test
+    @DisplayName("Should reject trusted proxies that are not IP literals")
+    void shouldRejectInvalidTrustedProxies() {
+        assertThrows(IllegalArgumentException.class, () -> resolver(List.of("proxy.internal")));
+        assertThrows(IllegalArgumentException.class, () -> resolver(List.of("10.0.0.0/33")));
+    }
+
+    private static ClientIpResolver resolver(List<String> trustedProxies) {
+        return new ClientIpResolver(new RateLimitProperties(null, null, null, null, null, trustedProxies));
+    }
+
+    private static MockServerHttpRequest request(String remoteAddress, String... forwardedFor) {
+        return MockServerHttpRequest.post(LoginRateLimitFilter.LOGIN_PATH)
+                .remoteAddress(new InetSocketAddress(remoteAddress, 50000))
+                .header(ClientIpResolver.X_FORWARDED_FOR, forwardedFor)
+                .build();
+    }
+}
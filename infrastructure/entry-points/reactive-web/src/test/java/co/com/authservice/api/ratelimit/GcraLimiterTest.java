@@ -0,0 +1,87 @@
+package co.com.authservice.api.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("GcraLimiter - Token Bucket Tests")
+class GcraLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong now = new AtomicLong(42 * SECOND);
+
+    @Test
+    @DisplayName("Should accept a full burst and report the wait for the next permit")
+    void shouldAcceptBurst() {
+        GcraLimiter limiter = new GcraLimiter(3, Duration.ofSeconds(3), 16, now::get);
+
+        assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("a"));
+        assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("a"));
+        assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("a"));
+        assertEquals(SECOND, limiter.tryAcquire("a"));
+        assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    @DisplayName("Should regain one permit per emission interval")
+    void shouldRefill() {
+        GcraLimiter limiter = new GcraLimiter(2, Duration.ofSeconds(2), 16, now::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+
+        now.addAndGet(SECOND / 2);
+        assertEquals(SECOND / 2, limiter.tryAcquire("a"));
+
+        now.addAndGet(SECOND / 2);
+        assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+    }
+
+    @Test
+    @DisplayName("Should not store credit beyond the burst while idle")
+    void shouldCapIdleCredit() {
+        GcraLimiter limiter = new GcraLimiter(2, Duration.ofSeconds(2), 16, now::get);
+
+        now.addAndGet(60 * SECOND);
+
+        assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("a"));
+        assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+    }
+
+    @Test
+    @DisplayName("Should stay bounded when flooded with new keys and give each key its own bucket")
+    void shouldBoundTrackedKeys() {
+        GcraLimiter limiter = new GcraLimiter(1, Duration.ofMinutes(1), 4, now::get);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("flood-" + i));
+            assertTrue(limiter.size() <= 4);
+        }
+
+        assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("client"));
+        assertTrue(limiter.tryAcquire("client") > 0);
+        assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("other-client"));
+    }
+
+    @Test
+    @DisplayName("Should keep keys in use across rotations and evict the idle ones")
+    void shouldKeepKeysInUse() {
+        GcraLimiter limiter = new GcraLimiter(1, Duration.ofMinutes(1), 4, now::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        limiter.tryAcquire("c");
+        assertTrue(limiter.tryAcquire("a") > 0);
+        limiter.tryAcquire("d");
+
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(GcraLimiter.ALLOWED, limiter.tryAcquire("b"));
+    }
+}
@@ -0,0 +1,108 @@
+package co.com.authservice.api.ratelimit;
+
+import co.com.authservice.api.security.ErrorResponseWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LoginRateLimitFilter - Per-IP Login Limit Tests")
+class LoginRateLimitFilterTest {
+
+    private final LoginRateLimiter rateLimiter = mock(LoginRateLimiter.class);
+    private final WebFilterChain chain = mock(WebFilterChain.class);
+    private final LoginRateLimitFilter filter = new LoginRateLimitFilter(rateLimiter,
+            new ClientIpResolver(new RateLimitProperties(null, null, null, null, null, List.of("10.0.0.0/24"))),
+            new ErrorResponseWriter());
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After when the client IP is over its limit")
+    void shouldRejectOverLimit() {
+        when(rateLimiter.acquireForIp("10.0.0.7")).thenReturn(Mono.just(Duration.ofMillis(1500)));
+        MockServerWebExchange exchange = login();
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        assertEquals("2", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("Should continue the chain when the client IP is within its limit")
+    void shouldContinueWithinLimit() {
+        when(rateLimiter.acquireForIp("10.0.0.7")).thenReturn(Mono.just(Duration.ZERO));
+        when(chain.filter(any())).thenReturn(Mono.empty());
+        MockServerWebExchange exchange = login();
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        verify(chain).filter(exchange);
+    }
+
+    @Test
+    @DisplayName("Should limit the forwarded client when the connection comes from a trusted proxy")
+    void shouldLimitForwardedClient() {
+        when(rateLimiter.acquireForIp("203.0.113.9")).thenReturn(Mono.just(Duration.ZERO));
+        when(chain.filter(any())).thenReturn(Mono.empty());
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(LoginRateLimitFilter.LOGIN_PATH)
+                .remoteAddress(new InetSocketAddress("10.0.0.7", 50000))
+                .header(ClientIpResolver.X_FORWARDED_FOR, "203.0.113.9"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        verify(rateLimiter).acquireForIp("203.0.113.9");
+    }
+
+    @Test
+    @DisplayName("Should limit login paths decorated with matrix parameters or percent-encoding")
+    void shouldLimitDecoratedLoginPaths() {
+        when(rateLimiter.acquireForIp("10.0.0.7")).thenReturn(Mono.just(Duration.ofSeconds(1)));
+
+        for (String path : List.of("/api/v1/auth/login;x", "/api/v1/auth/logi%6E", "/api/v1/auth;a=b/login")) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(
+                    MockServerHttpRequest.method(HttpMethod.POST, URI.create(path))
+                            .remoteAddress(new InetSocketAddress("10.0.0.7", 50000)));
+
+            StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode(), path);
+        }
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("Should ignore requests other than the login")
+    void shouldIgnoreOtherRoutes() {
+        when(chain.filter(any())).thenReturn(Mono.empty());
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/roles"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        verifyNoInteractions(rateLimiter);
+    }
+
+    private static MockServerWebExchange login() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(LoginRateLimitFilter.LOGIN_PATH)
+                .remoteAddress(new InetSocketAddress("10.0.0.7", 50000)));
+    }
+}
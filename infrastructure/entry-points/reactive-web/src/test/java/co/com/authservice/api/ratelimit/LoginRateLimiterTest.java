@@ -0,0 +1,90 @@
+package co.com.authservice.api.ratelimit;
+
+import co.com.authservice.model.ratelimit.gateways.RateLimitRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LoginRateLimiter - Login Attempt Limit Tests")
+class LoginRateLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should limit accounts case-insensitively and count rejections")
+    void shouldLimitAccounts() {
+        LoginRateLimiter limiter = new LoginRateLimiter(properties(true, false), (RateLimitRepository) null, registry);
+
+        StepVerifier.create(limiter.acquireForAccount("User@Mail.com")).expectNext(Duration.ZERO).verifyComplete();
+        StepVerifier.create(limiter.acquireForAccount(" user@mail.com "))
+                .expectNextMatches(wait -> wait.compareTo(Duration.ZERO) > 0)
+                .verifyComplete();
+        StepVerifier.create(limiter.acquireForIp("10.0.0.1")).expectNext(Duration.ZERO).verifyComplete();
+
+        assertEquals(1.0, registry.get(LoginRateLimiter.METRIC).tag("scope", "account").tag("store", "local")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Should let everything through when disabled")
+    void shouldAllowWhenDisabled() {
+        LoginRateLimiter limiter = new LoginRateLimiter(properties(false, false), (RateLimitRepository) null, registry);
+
+        for (int i = 0; i < 5; i++) {
+            StepVerifier.create(limiter.acquireForIp("10.0.0.1")).expectNext(Duration.ZERO).verifyComplete();
+        }
+    }
+
+    @Test
+    @DisplayName("Should consult the shared store only after the local limit accepts")
+    void shouldConsultSharedStore() {
+        RateLimitRepository shared = mock(RateLimitRepository.class);
+        when(shared.acquire(anyString(), any(), any())).thenReturn(Mono.just(Duration.ofSeconds(60)));
+        LoginRateLimiter limiter = new LoginRateLimiter(properties(true, true), shared, registry);
+
+        StepVerifier.create(limiter.acquireForIp("10.0.0.1")).expectNext(Duration.ofSeconds(60)).verifyComplete();
+        StepVerifier.create(limiter.acquireForIp("10.0.0.1"))
+                .expectNextMatches(wait -> wait.compareTo(Duration.ZERO) > 0)
+                .verifyComplete();
+
+        verify(shared).acquire(eq("ip:10.0.0.1"), eq(Duration.ofMinutes(1)), eq(Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the local limit when the shared store fails")
+    void shouldFailOpenOnSharedStoreErrors() {
+        RateLimitRepository shared = mock(RateLimitRepository.class);
+        when(shared.acquire(anyString(), any(), any())).thenReturn(Mono.error(new IllegalStateException("down")));
+        LoginRateLimiter limiter = new LoginRateLimiter(properties(true, true), shared, registry);
+
+        StepVerifier.create(limiter.acquireForAccount("user@mail.com")).expectNext(Duration.ZERO).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not limit requests without an email")
+    void shouldIgnoreMissingEmail() {
+        RateLimitRepository shared = mock(RateLimitRepository.class);
+        LoginRateLimiter limiter = new LoginRateLimiter(properties(true, true), shared, registry);
+
+        StepVerifier.create(limiter.acquireForAccount(null)).expectNext(Duration.ZERO).verifyComplete();
+        verifyNoInteractions(shared);
+    }
+
+    private static RateLimitProperties properties(boolean enabled, boolean shared) {
+        RateLimitProperties.Limit onePerMinute = new RateLimitProperties.Limit(1, Duration.ofMinutes(1));
+        return new RateLimitProperties(enabled, onePerMinute, onePerMinute, 16, shared, null);
+    }
+}
@@ -0,0 +1,63 @@
+package co.com.authservice.api.runtime;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.DefaultEventLoopGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventLoopMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DefaultEventLoopGroup group = new DefaultEventLoopGroup(1);
+    private final NettyRuntimeProperties properties =
+            new NettyRuntimeProperties(false, 0, 1, 0, Duration.ofMillis(10), Duration.ofMillis(20));
+
+    @AfterEach
+    void tearDown() {
+        group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("Should record the scheduling lag of an idle loop")
+    void shouldRecordLag() throws Exception {
+        EventLoopMonitor monitor = new EventLoopMonitor(group, properties, registry);
+
+        monitor.tick();
+        group.submit(() -> { }).get(1, TimeUnit.SECONDS);
+
+        assertEquals(1, registry.get(EventLoopMonitor.LAG_TIMER).tag("loop", "0").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should count a blocked loop once per episode")
+    void shouldCountBlockedLoopOnce() throws Exception {
+        EventLoopMonitor monitor = new EventLoopMonitor(group, properties, registry);
+        AtomicBoolean release = new AtomicBoolean();
+        // Busy-waits: BlockHound rejects latches, sleeps and even Thread.onSpinWait on the loop.
+        group.execute(() -> {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!release.get() && System.nanoTime() < deadline) {
+                // keeps the loop thread occupied
+            }
+        });
+
+        monitor.tick();
+        Thread.sleep(50);
+        monitor.tick();
+        monitor.tick();
+        release.set(true);
+        group.submit(() -> { }).get(1, TimeUnit.SECONDS);
+
+        assertEquals(1.0, registry.get(EventLoopMonitor.BLOCKED_COUNTER).tag("loop", "0").counter().count());
+        assertTrue(registry.get(EventLoopMonitor.LAG_TIMER).tag("loop", "0").timer()
+                .totalTime(TimeUnit.MILLISECONDS) >= 50);
+    }
+}
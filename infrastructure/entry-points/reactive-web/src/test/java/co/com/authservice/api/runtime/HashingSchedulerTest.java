@@ -0,0 +1,57 @@
+package co.com.authservice.api.runtime;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashingSchedulerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private HashingScheduler hashingScheduler;
+
+    @AfterEach
+    void tearDown() {
+        hashingScheduler.destroy();
+    }
+
+    @Test
+    @DisplayName("Should run hashing work on the dedicated pool")
+    void shouldRunOnDedicatedPool() {
+        hashingScheduler = new HashingScheduler(new HashingProperties(1, 1), registry);
+
+        StepVerifier.create(hashingScheduler.submit(() -> Thread.currentThread().getName()))
+                .assertNext(name -> assertTrue(name.startsWith("hashing-")))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject work once threads and queue are saturated")
+    void shouldRejectWhenSaturated() throws InterruptedException {
+        hashingScheduler = new HashingScheduler(new HashingProperties(1, 1), registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        hashingScheduler.submit(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).subscribe();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        hashingScheduler.submit(() -> true).subscribe();
+
+        StepVerifier.create(hashingScheduler.submit(() -> true))
+                .expectError(RejectedExecutionException.class)
+                .verify();
+        release.countDown();
+
+        assertEquals(1.0, registry.get(HashingScheduler.METRIC_PREFIX + ".rejected").counter().count());
+    }
+}
@@ -0,0 +1,34 @@
+package co.com.authservice.api.runtime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.LoopResources;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DisplayName("NettyRuntimeConfig - Server Loop Tests")
+class NettyRuntimeConfigTest {
+
+    private final NettyRuntimeConfig config = new NettyRuntimeConfig();
+
+    @Test
+    @DisplayName("Should create server loops without acceptor threads by default")
+    void shouldCreateLoopsWithoutSelectThreads() {
+        assertCreates(new NettyRuntimeProperties(false, 0, 2, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should create server loops with dedicated acceptor threads")
+    void shouldCreateLoopsWithSelectThreads() {
+        assertCreates(new NettyRuntimeProperties(false, 1, 2, null, null, null));
+    }
+
+    private void assertCreates(NettyRuntimeProperties properties) {
+        LoopResources loops = config.serverLoopResources(properties);
+        try {
+            assertFalse(loops.onServer(false).isShutdown());
+        } finally {
+            loops.dispose();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package co.com.authservice.api.runtime;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.NettyOutbound;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("ResponseCompressionPredicate - Compressed Response Tests")
+class ResponseCompressionPredicateTest {
+
+    private static final String LARGE = "x".repeat(4096);
+    private static final String SMALL = "x".repeat(512);
+
+    private DisposableServer server;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCompressionPredicate predicate = new ResponseCompressionPredicate(
+                new ResponseCompressionProperties(true, DataSize.ofKilobytes(2), List.of("/listed/**")));
+        server = HttpServer.create()
+                .port(0)
+                .compress(predicate)
+                .route(routes -> routes
+                        .get("/listed/large", (request, response) -> send(response, LARGE))
+                        .get("/listed/small", (request, response) -> send(response, SMALL))
+                        .get("/other", (request, response) -> send(response, LARGE)))
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Should compress a listed route that reaches the threshold")
+    void shouldCompressListedRoute() {
+        assertEquals("gzip", contentEncoding("/listed/large"));
+    }
+
+    @Test
+    @DisplayName("Should not compress below the threshold or outside the listed routes")
+    void shouldSkipSmallAndUnlistedResponses() {
+        assertNull(contentEncoding("/listed/small"));
+        assertNull(contentEncoding("/other"));
+    }
+
+    private static NettyOutbound send(HttpServerResponse response, String body) {
+        return response.status(HttpResponseStatus.OK)
+                .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(body.length()))
+                .sendString(Mono.just(body));
+    }
+
+    private String contentEncoding(String path) {
+        return HttpClient.create()
+                .port(server.port())
+                .headers(headers -> headers.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip"))
+                .get()
+                .uri(path)
+                .responseSingle((response, body) -> body.then(Mono.fromSupplier(
+                        () -> response.responseHeaders().get(HttpHeaderNames.CONTENT_ENCODING))))
+                .block(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,51 @@
+package co.com.authservice.api.security;
+
+import co.com.authservice.model.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.test.StepVerifier;
+
+@DisplayName("AuthorizationUtils - Handler Permission Check Tests")
+class AuthorizationUtilsTest {
+
+    private static final long USER_READ = 0b01L;
+    private static final long USER_CREATE = 0b10L;
+
+    @Test
+    @DisplayName("Should reject a principal without the required permissions")
+    void shouldRejectMissingPermissions() {
+        MockServerWebExchange exchange = exchangeWith(new AuthenticatedPrincipal(User.builder().id(1L).build(), USER_READ));
+
+        StepVerifier.create(AuthorizationUtils.requirePermissions(exchange, USER_CREATE))
+                .expectError(AccessDeniedException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject a request the filter did not authenticate")
+    void shouldRejectMissingPrincipal() {
+        StepVerifier.create(AuthorizationUtils.requirePermissions(exchangeWith(null), USER_CREATE))
+                .expectError(AccessDeniedException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should pass a principal holding every required permission")
+    void shouldPassGrantedPermissions() {
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(User.builder().id(1L).build(), USER_READ | USER_CREATE);
+
+        StepVerifier.create(AuthorizationUtils.requirePermissions(exchangeWith(principal), USER_CREATE))
+                .expectNext(principal)
+                .verifyComplete();
+    }
+
+    private static MockServerWebExchange exchangeWith(AuthenticatedPrincipal principal) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/user"));
+        if (principal != null) {
+            exchange.getAttributes().put(AuthorizationUtils.AUTHENTICATED_PRINCIPAL, principal);
+        }
+        return exchange;
+    }
+}
@@ -0,0 +1,124 @@
+package co.com.authservice.api.security;
+
+import co.com.authservice.api.lockout.AccountLockout;
+import co.com.authservice.api.runtime.HashingProperties;
+import co.com.authservice.api.runtime.HashingScheduler;
+import co.com.authservice.model.audit.AuditEventType;
+import co.com.authservice.model.audit.gateways.AuditEventRepository;
+import co.com.authservice.model.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CredentialsVerifier - Login Password Check Tests")
+class CredentialsVerifierTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private PasswordEncoder passwordEncoder;
+    private HashingScheduler hashingScheduler;
+    private AccountLockout accountLockout;
+    private AuditEventRepository auditEventRepository;
+    private CredentialsVerifier verifier;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = spy(new BCryptPasswordEncoder(4));
+        hashingScheduler = new HashingScheduler(new HashingProperties(1, 4),
+                new StaticListableBeanFactory(Map.of("registry", registry)).getBeanProvider(MeterRegistry.class));
+        accountLockout = mock(AccountLockout.class);
+        when(accountLockout.lockedFor(any())).thenReturn(Duration.ZERO);
+        auditEventRepository = mock(AuditEventRepository.class);
+        verifier = new CredentialsVerifier(passwordEncoder, hashingScheduler, accountLockout, auditEventRepository,
+                registry);
+        user = User.builder().id(7L).password(new BCryptPasswordEncoder(4).encode("secret")).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingScheduler.destroy();
+    }
+
+    @Test
+    @DisplayName("Should accept the right password and clear failures")
+    void shouldAcceptMatchingPassword() {
+        StepVerifier.create(verifier.verify(user, "secret")).expectNext(user).verifyComplete();
+
+        verify(accountLockout).recordSuccess(user);
+        verify(auditEventRepository).record(argThat(event -> event.type() == AuditEventType.LOGIN_SUCCEEDED));
+    }
+
+    @Test
+    @DisplayName("Should reject a wrong password and record the failure")
+    void shouldRejectWrongPassword() {
+        StepVerifier.create(verifier.verify(user, "guess"))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && CredentialsVerifier.INVALID_CREDENTIALS.equals(error.getMessage()))
+                .verify();
+
+        verify(accountLockout).recordFailure(user);
+        verify(auditEventRepository).record(argThat(event -> event.type() == AuditEventType.LOGIN_FAILED));
+        assertEquals(1.0, registry.get(CredentialsVerifier.METRIC).tag("reason", "bad_password").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject a locked account like a wrong password after a dummy match")
+    void shouldRejectLockedAccountLikeWrongPassword() {
+        when(accountLockout.lockedFor(user)).thenReturn(Duration.ofMinutes(10));
+
+        StepVerifier.create(verifier.verify(user, "secret"))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && CredentialsVerifier.INVALID_CREDENTIALS.equals(error.getMessage()))
+                .verify();
+
+        verify(passwordEncoder).matches(eq("secret"), argThat(hash -> !hash.equals(user.getPassword())));
+        verify(accountLockout, never()).recordFailure(user);
+        verify(auditEventRepository).record(argThat(event -> event.type() == AuditEventType.LOGIN_LOCKED));
+        assertEquals(1.0, registry.get(CredentialsVerifier.METRIC).tag("reason", "locked").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should spend a password match on unknown emails and fail the same way")
+    void shouldHashForUnknownUsers() {
+        StepVerifier.create(verifier.rejectUnknown("guess"))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && CredentialsVerifier.INVALID_CREDENTIALS.equals(error.getMessage()))
+                .verify();
+
+        verify(passwordEncoder).matches(eq("guess"), anyString());
+        assertEquals(1.0, registry.get(CredentialsVerifier.METRIC).tag("reason", "unknown_user").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should still spend a password match on accounts without a password")
+    void shouldHashForAccountsWithoutPassword() {
+        User withoutPassword = User.builder().id(8L).build();
+
+        StepVerifier.create(verifier.verify(withoutPassword, "dummy")).expectError(IllegalArgumentException.class).verify();
+
+        verify(passwordEncoder, times(1)).matches(eq("dummy"), anyString());
+        verify(accountLockout).recordFailure(withoutPassword);
+    }
+}
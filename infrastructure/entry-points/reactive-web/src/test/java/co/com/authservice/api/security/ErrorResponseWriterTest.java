@@ -0,0 +1,44 @@
+package co.com.authservice.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("ErrorResponseWriter - Error Body Tests")
+class ErrorResponseWriterTest {
+
+    private final ErrorResponseWriter writer = new ErrorResponseWriter(
+            new CoarseClock(Clock.fixed(Instant.parse("2024-01-15T10:30:00.123Z"), ZoneOffset.UTC)));
+
+    @Test
+    @DisplayName("Should render the precomputed unauthorized body")
+    void shouldRenderUnauthorizedBody() {
+        DataBuffer buffer = writer.render(DefaultDataBufferFactory.sharedInstance,
+                ErrorResponseWriter.UNAUTHORIZED, "/api/v1/user");
+
+        assertEquals("{\"code\":\"UNAUTHORIZED\",\"message\":\"Authentication required. Please provide a valid JWT token.\","
+                + "\"timestamp\":\"2024-01-15T10:30:00\",\"path\":\"/api/v1/user\"}", asString(buffer));
+    }
+
+    @Test
+    @DisplayName("Should escape dynamic message and path")
+    void shouldEscapeDynamicValues() {
+        DataBuffer buffer = writer.renderForbidden(DefaultDataBufferFactory.sharedInstance,
+                "bad \"token\"\n", "/api/v1/user/\\ñ");
+
+        assertEquals("{\"code\":\"FORBIDDEN\",\"message\":\"bad \\\"token\\\"\\u000a\","
+                + "\"timestamp\":\"2024-01-15T10:30:00\",\"path\":\"/api/v1/user/\\\\ñ\"}", asString(buffer));
+    }
+
+    private static String asString(DataBuffer buffer) {
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,121 @@
+package co.com.authservice.api.security;
+
+import co.com.authservice.api.lockout.AccountLockout;
+import co.com.authservice.api.logging.LogSampler;
+import co.com.authservice.jwt.JWTTokenServiceImpl;
+import co.com.authservice.jwt.VerifiedToken;
+import co.com.authservice.usecase.auth.LoginUseCase;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JWTAuthenticationFilter - Decision Observation Tests")
+class JWTAuthenticationFilterTest {
+
+    private static final String TOKEN = "token";
+
+    private final List<Observation.Context> stopped = new CopyOnWriteArrayList<>();
+    private LoginUseCase loginUseCase;
+    private JWTAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        JWTTokenServiceImpl jwtTokenService = mock(JWTTokenServiceImpl.class);
+        when(jwtTokenService.verify(TOKEN)).thenReturn(
+                new VerifiedToken("user@mail.com", 1L, "CLIENT", 0L, Instant.now().plusSeconds(60)));
+        loginUseCase = mock(LoginUseCase.class);
+        AccountLockout accountLockout = mock(AccountLockout.class);
+        when(accountLockout.lockedFor(any())).thenReturn(Duration.ZERO);
+        RoutePolicyTable routePolicyTable = mock(RoutePolicyTable.class);
+        when(routePolicyTable.resolve(any(), any()))
+                .thenReturn(new RoutePolicy(RouteAccess.AUTHENTICATED, 0L, null));
+        VerifiedTokenCache tokenCache = mock(VerifiedTokenCache.class);
+
+        filter = new JWTAuthenticationFilter(jwtTokenService, loginUseCase, tokenCache, accountLockout,
+                routePolicyTable, mock(PermissionRegistry.class), new ErrorResponseWriter(),
+                new LogSampler(10, Duration.ofSeconds(1)), observationRegistry);
+    }
+
+    @Test
+    @DisplayName("Should stop the decision observation when the request is cancelled before a decision")
+    void shouldStopObservationOnCancel() {
+        when(loginUseCase.validateUserCredentials(anyString())).thenReturn(Mono.never());
+
+        StepVerifier.create(filter.filter(exchange(), chain()))
+                .thenAwait(Duration.ofMillis(10))
+                .thenCancel()
+                .verify();
+
+        assertEquals(1, stopped.size());
+        assertEquals(AuthDecisionEvent.CANCELLED, outcomeOf(stopped.get(0)));
+    }
+
+    @Test
+    @DisplayName("Should stop the decision observation when token validation completes empty")
+    void shouldStopObservationWhenValidationIsEmpty() {
+        when(loginUseCase.validateUserCredentials(anyString())).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchange(), chain())).verifyComplete();
+
+        assertEquals(1, stopped.size());
+        assertEquals(AuthDecisionEvent.INCOMPLETE, outcomeOf(stopped.get(0)));
+    }
+
+    @Test
+    @DisplayName("Should stop the decision observation once when the decision is made")
+    void shouldStopObservationOnceOnDecision() {
+        StepVerifier.create(filter.filter(
+                        MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.GET, "/api/v1/user")),
+                        chain()))
+                .verifyComplete();
+
+        assertEquals(1, stopped.size());
+        assertEquals(AuthDecisionEvent.REJECTED, outcomeOf(stopped.get(0)));
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.GET, "/api/v1/user")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+    }
+
+    private static WebFilterChain chain() {
+        return exchange -> Mono.empty();
+    }
+
+    private static String outcomeOf(Observation.Context context) {
+        return context.getLowCardinalityKeyValue("outcome").getValue();
+    }
+}
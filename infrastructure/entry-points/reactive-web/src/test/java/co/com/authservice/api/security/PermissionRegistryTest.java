@@ -0,0 +1,53 @@
+package co.com.authservice.api.security;
+
+import co.com.authservice.model.role.Role;
+import co.com.authservice.model.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PermissionRegistry - Permission Bitset Tests")
+class PermissionRegistryTest {
+
+    private final PermissionRegistry registry = new PermissionRegistry(new PermissionProperties(
+            List.of("USER_READ", "ROLE_READ", "USER_CREATE"),
+            Map.of("ADMIN", List.of("USER_READ", "ROLE_READ", "USER_CREATE"),
+                    "CLIENT", List.of("USER_READ"))));
+
+    @Test
+    @DisplayName("Should assign bits by declaration order")
+    void shouldAssignBitsByDeclarationOrder() {
+        assertEquals(0b001L, registry.maskOf(List.of("USER_READ")));
+        assertEquals(0b110L, registry.maskOf(List.of("ROLE_READ", "USER_CREATE")));
+    }
+
+    @Test
+    @DisplayName("Should resolve role masks and evaluate them as bit tests")
+    void shouldResolveRoleMasks() {
+        AuthenticatedPrincipal admin = principal("ADMIN");
+        AuthenticatedPrincipal client = principal("CLIENT");
+        long createUser = registry.maskOf(List.of("USER_CREATE"));
+
+        assertTrue(admin.hasAll(createUser));
+        assertFalse(client.hasAll(createUser));
+        assertEquals(0L, registry.maskForRole("UNKNOWN"));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown permissions")
+    void shouldRejectUnknownPermissions() {
+        assertThrows(IllegalStateException.class, () -> registry.maskOf(List.of("USER_DELETE")));
+    }
+
+    private AuthenticatedPrincipal principal(String role) {
+        User user = User.builder().id(1L).role(Role.builder().name(role).build()).build();
+        return new AuthenticatedPrincipal(user, registry.maskFor(user));
+    }
+}
@@ -0,0 +1,129 @@
+package co.com.authservice.api.security;
+
+import co.com.authservice.model.role.Role;
+import co.com.authservice.model.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("RoutePolicyTable - Route Policy Lookup Tests")
+class RoutePolicyTableTest {
+
+    private PermissionRegistry permissionRegistry;
+    private RoutePolicyTable table;
+
+    @BeforeEach
+    void setUp() {
+        permissionRegistry = new PermissionRegistry(new PermissionProperties(
+                List.of("USER_READ", "USER_CREATE", "OPS_READ"),
+                Map.of("ADVISOR", List.of("USER_READ", "USER_CREATE"),
+                        "CLIENT", List.of("USER_READ"))));
+        table = new RoutePolicyTable(new RoutePolicyProperties(RouteAccess.AUTHENTICATED, List.of(
+                rule("/api/v1/auth/login", List.of(), RouteAccess.PUBLIC, List.of()),
+                rule("/api/v1/user", List.of("POST"), RouteAccess.RESTRICTED, List.of("USER_CREATE")),
+                rule("/api/v1/user/{documentNumber}", List.of("GET"), RouteAccess.AUTHENTICATED, List.of()),
+                rule("/actuator/sqlstats", List.of(), RouteAccess.RESTRICTED, List.of("OPS_READ")),
+                rule("/actuator/**", List.of(), RouteAccess.PUBLIC, List.of())
+        )), permissionRegistry);
+    }
+
+    @Test
+    @DisplayName("Should resolve exact public routes")
+    void shouldResolveExactPublicRoutes() {
+        assertTrue(resolve(HttpMethod.POST, "/api/v1/auth/login").isPublic());
+        assertFalse(resolve(HttpMethod.POST, "/api/v1/auth/login/extra").isPublic());
+    }
+
+    @Test
+    @DisplayName("Should resolve prefix routes including the prefix itself")
+    void shouldResolvePrefixRoutes() {
+        assertTrue(resolve(HttpMethod.GET, "/actuator").isPublic());
+        assertTrue(resolve(HttpMethod.GET, "/actuator/health/readiness").isPublic());
+        assertFalse(resolve(HttpMethod.GET, "/actuatorx").isPublic());
+    }
+
+    @Test
+    @DisplayName("Should apply method-specific restricted policies")
+    void shouldApplyMethodSpecificPolicies() {
+        RoutePolicy create = resolve(HttpMethod.POST, "/api/v1/user");
+        RoutePolicy list = resolve(HttpMethod.GET, "/api/v1/user");
+
+        assertEquals(RouteAccess.RESTRICTED, create.access());
+        assertTrue(create.permits(principalWithRole("ADVISOR")));
+        assertFalse(create.permits(principalWithRole("CLIENT")));
+        assertEquals(RouteAccess.AUTHENTICATED, list.access());
+        assertTrue(list.permits(principalWithRole("CLIENT")));
+    }
+
+    @Test
+    @DisplayName("Should match path variables as single segment wildcards")
+    void shouldMatchPathVariables() {
+        assertEquals(RouteAccess.AUTHENTICATED, resolve(HttpMethod.GET, "/api/v1/user/123456789").access());
+    }
+
+    @Test
+    @DisplayName("Should fall back to default access for unknown routes")
+    void shouldFallBackToDefaultAccess() {
+        assertEquals(RouteAccess.AUTHENTICATED, resolve(HttpMethod.GET, "/api/v1/unknown").access());
+    }
+
+    @Test
+    @DisplayName("Should resolve matrix parameters and percent-encoded segments like the router")
+    void shouldResolveSegmentsAsTheRouterMatchesThem() {
+        for (String path : List.of("/api/v1/user;a=b", "/api/v1/us%65r", "/api/v1;x/user")) {
+            PathContainer requestPath = requestPath(path);
+
+            assertTrue(PathPatternParser.defaultInstance.parse("/api/v1/user").matches(requestPath), path);
+            assertEquals(RouteAccess.RESTRICTED, table.resolve(HttpMethod.POST, requestPath).access(), path);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not fall back to a public prefix rule for a decorated restricted segment")
+    void shouldKeepRestrictedActuatorEndpoints() {
+        for (String path : List.of("/actuator/sqlstats", "/actuator/sqlstats;x", "/actuator/sql%73tats")) {
+            RoutePolicy policy = table.resolve(HttpMethod.DELETE, requestPath(path));
+
+            assertEquals(RouteAccess.RESTRICTED, policy.access(), path);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject restricted rules without permissions")
+    void shouldRejectRestrictedRulesWithoutPermissions() {
+        RoutePolicyProperties properties = new RoutePolicyProperties(RouteAccess.AUTHENTICATED, List.of(
+                rule("/api/v1/user", List.of(), RouteAccess.RESTRICTED, List.of())));
+
+        assertThrows(IllegalStateException.class, () -> new RoutePolicyTable(properties, permissionRegistry));
+    }
+
+    private RoutePolicy resolve(HttpMethod method, String path) {
+        return table.resolve(method, requestPath(path));
+    }
+
+    private static PathContainer requestPath(String rawPath) {
+        return MockServerHttpRequest.method(HttpMethod.POST, URI.create(rawPath)).build().getPath().pathWithinApplication();
+    }
+
+    private static RoutePolicyProperties.Rule rule(String pattern, List<String> methods, RouteAccess access, List<String> permissions) {
+        return new RoutePolicyProperties.Rule(pattern, methods, access, permissions);
+    }
+
+    private AuthenticatedPrincipal principalWithRole(String role) {
+        User user = User.builder().id(1L).role(Role.builder().name(role).build()).build();
+        return new AuthenticatedPrincipal(user, permissionRegistry.maskFor(user));
+    }
+}
@@ -0,0 +1,111 @@
+package co.com.authservice.api.security;
+
+import co.com.authservice.model.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("VerifiedTokenCache - Token Cache Tests")
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:30:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private AuthenticatedPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(
+                new TokenCacheProperties(true, 16, Duration.ofMinutes(5)),
+                meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        principal = new AuthenticatedPrincipal(User.builder().id(1L).email("juan.perez@email.com").build(), 1L);
+    }
+
+    @Test
+    @DisplayName("Should return cached principal until the token expires")
+    void shouldReturnCachedPrincipal() {
+        cache.put("token", principal, NOW.plusSeconds(60));
+
+        assertSame(principal, cache.get("token"));
+        assertNull(cache.get("other-token"));
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    @DisplayName("Should not cache tokens that are already expired")
+    void shouldNotCacheExpiredTokens() {
+        cache.put("token", principal, NOW.minusSeconds(1));
+
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    @DisplayName("Should cap entry lifetime with the configured max TTL")
+    void shouldCapLifetimeWithMaxTtl() {
+        cache.put("token", principal, Instant.MAX);
+
+        VerifiedTokenCache later = new VerifiedTokenCache(
+                new TokenCacheProperties(true, 16, Duration.ZERO),
+                meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        later.put("token", principal, Instant.MAX);
+
+        assertSame(principal, cache.get("token"));
+        assertNull(later.get("token"));
+    }
+
+    @Test
+    @DisplayName("Should drop every entry of a subject")
+    void shouldDropEntriesOfSubject() {
+        cache.put("token-a", principal, NOW.plusSeconds(60));
+        cache.put("token-b", principal, NOW.plusSeconds(60));
+
+        cache.invalidateSubject("juan.perez@email.com");
+
+        assertNull(cache.get("token-a"));
+        assertNull(cache.get("token-b"));
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache when disabled")
+    void shouldBypassWhenDisabled() {
+        VerifiedTokenCache disabled = new VerifiedTokenCache(
+                new TokenCacheProperties(false, 16, Duration.ofMinutes(5)),
+                new SimpleMeterRegistry(),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        disabled.put("token", principal, NOW.plusSeconds(60));
+
+        assertNull(disabled.get("token"));
+    }
+
+    @Test
+    @DisplayName("Should be created by Spring through its public constructor")
+    void shouldBeCreatedBySpring() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(TokenCacheProperties.class,
+                    () -> new TokenCacheProperties(true, 16, Duration.ofMinutes(5)));
+            context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+            context.register(VerifiedTokenCache.class);
+            context.refresh();
+
+            assertNotNull(context.getBean(VerifiedTokenCache.class));
+        }
+    }
+}